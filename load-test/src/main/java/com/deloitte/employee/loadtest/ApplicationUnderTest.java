@@ -0,0 +1,92 @@
+package com.deloitte.employee.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The service started from its jar on in-memory H2 with a generated dataset, for runs that do
+ * not target a deployed instance. Output goes to a log file next to the report.
+ */
+final class ApplicationUnderTest implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(15);
+
+    private final Process process;
+    private final URI baseUri;
+
+    private ApplicationUnderTest(Process process, URI baseUri) {
+        this.process = process;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Starts the jar and waits until it reports ready, which is after the dataset was generated.
+     */
+    static ApplicationUnderTest start(Path jar, long employees, int port, int managementPort, Path log)
+            throws IOException, InterruptedException {
+        Files.createDirectories(log.toAbsolutePath().getParent());
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(List.of(
+                java, "-jar", jar.toString(),
+                "--spring.profiles.active=local,generate",
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--application.employee-management.generator.count=" + employees,
+                "--logging.level.root=WARN"))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        var application = new ApplicationUnderTest(process, URI.create("http://localhost:" + port + "/api/v1"));
+        try {
+            application.awaitReady(URI.create("http://localhost:" + managementPort + "/actuator/health/readiness"));
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            application.close();
+            throw e;
+        }
+        return application;
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    private void awaitReady(URI readiness) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            if (!process.isAlive()) {
+                throw new IOException("Application exited with status " + process.exitValue() + " during startup");
+            }
+            try {
+                var response = client.send(HttpRequest.newBuilder(readiness).timeout(Duration.ofSeconds(5)).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // the management port opens late in startup
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("Application not ready after " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.deloitte.employee.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The employee REST API, e.g. {@code http://localhost:8080/api/v1}.
+ * <p>
+ * Reads and patches go to ids sampled from the existing employees before the run. Deletes only
+ * remove employees this target created, so the dataset keeps its shape and no manager with
+ * reports is deleted; a delete with nothing left to delete is skipped.
+ * </p>
+ */
+public final class EmployeeApiTarget implements Target {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int LIST_PAGES = 10;
+    private static final int SAMPLE_PAGE_SIZE = 1000;
+
+    private final URI base;
+    private final Duration timeout;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<String> ids;
+    private final ConcurrentLinkedQueue<String> created = new ConcurrentLinkedQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private EmployeeApiTarget(URI base, Duration timeout, List<String> ids) {
+        this.base = base;
+        this.timeout = timeout;
+        this.ids = ids;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * @param sampledIds how many existing ids to read for get-by-id and patch requests
+     */
+    public static EmployeeApiTarget connect(URI base, Duration timeout, int sampledIds)
+            throws IOException, InterruptedException {
+        var target = new EmployeeApiTarget(base, timeout, new ArrayList<>());
+        target.sampleIds(sampledIds);
+        if (target.ids.isEmpty()) {
+            throw new IllegalStateException("No employees found at " + base + ", nothing to read or patch");
+        }
+        return target;
+    }
+
+    private void sampleIds(int limit) throws IOException, InterruptedException {
+        for (int page = 0; ids.size() < limit; page++) {
+            var response = client.send(post("/employees/all", Map.of("page", page, "size", SAMPLE_PAGE_SIZE)),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IOException("Listing employees failed with status " + response.statusCode());
+            }
+            JsonNode data = mapper.readTree(response.body()).path("data");
+            data.forEach(employee -> {
+                if (ids.size() < limit) {
+                    ids.add(employee.path("id").asText());
+                }
+            });
+            if (data.size() < SAMPLE_PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Outcome execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case GET_BY_ID -> send(request("/employees/" + randomId(random)).GET().build());
+            case LIST -> send(post("/employees/all", Map.of("page", random.nextInt(LIST_PAGES), "size", PAGE_SIZE)));
+            case SEARCH -> send(post("/employees/all", Map.of(
+                    "size", PAGE_SIZE,
+                    "search", Map.of("designation", "engineer"))));
+            case CREATE -> create();
+            case PATCH -> send(request("/employees/" + randomId(random))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", body(Map.of("designation", "Load Tester " + random.nextInt(10))))
+                    .build());
+            case DELETE -> {
+                String id = created.poll();
+                yield id == null ? Outcome.SKIPPED : send(request("/employees/" + id).DELETE().build());
+            }
+        };
+    }
+
+    private Outcome create() throws IOException, InterruptedException {
+        long n = sequence.incrementAndGet();
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("email", "load-" + UUID.randomUUID() + "@example.com");
+        employee.put("fullName", "Load Test " + n);
+        employee.put("password", "LoadTest#1");
+        employee.put("phoneNumber", "+1-555-555-" + String.format("%04d", n % 10_000));
+        employee.put("dob", "1990-01-01");
+        employee.put("isActive", true);
+        employee.put("designation", "Load Tester");
+
+        var response = client.send(post("/employees/create", employee), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            return Outcome.ERROR;
+        }
+        created.add(mapper.readTree(response.body()).path("id").asText());
+        return Outcome.OK;
+    }
+
+    private Outcome send(HttpRequest request) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status / 100 == 2 || status == 304 ? Outcome.OK : Outcome.ERROR;
+    }
+
+    private String randomId(ThreadLocalRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).timeout(timeout);
+    }
+
+    private HttpRequest post(String path, Object payload) throws IOException {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(body(payload))
+                .build();
+    }
+
+    private HttpRequest.BodyPublisher body(Object payload) throws IOException {
+        return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(payload));
+    }
+}
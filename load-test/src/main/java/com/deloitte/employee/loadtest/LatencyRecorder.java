@@ -0,0 +1,75 @@
+package com.deloitte.employee.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes per operation, safe to record into from any number of threads.
+ * Latencies are kept in microseconds with three significant digits; failed requests are
+ * recorded too, as a timeout is as much part of what the client sees as a fast response.
+ */
+public final class LatencyRecorder {
+
+    static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<Operation, Endpoint> endpoints = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        // every entry exists up front, so concurrent recording never modifies the map
+        for (Operation operation : Operation.values()) {
+            endpoints.put(operation, new Endpoint());
+        }
+    }
+
+    /**
+     * @param latencyNanos time from the intended start of the request to its response
+     */
+    public void record(Operation operation, Target.Outcome outcome, long latencyNanos) {
+        Endpoint endpoint = endpoints.get(operation);
+        switch (outcome) {
+            case SKIPPED -> endpoint.skipped.increment();
+            case OK, ERROR -> {
+                if (outcome == Target.Outcome.ERROR) {
+                    endpoint.errors.increment();
+                }
+                long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+                endpoint.histogram.recordValue(Math.min(micros, HIGHEST_MICROS));
+            }
+        }
+    }
+
+    public Endpoint endpoint(Operation operation) {
+        return endpoints.get(operation);
+    }
+
+    public static final class Endpoint {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        /**
+         * Copy of the latencies, in microseconds.
+         */
+        public Histogram histogram() {
+            return histogram.copy();
+        }
+
+        public long requests() {
+            return histogram.getTotalCount();
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public long skipped() {
+            return skipped.sum();
+        }
+    }
+}
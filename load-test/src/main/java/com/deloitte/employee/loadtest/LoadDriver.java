@@ -0,0 +1,130 @@
+package com.deloitte.employee.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests to a {@link Target} on virtual threads and records their latencies.
+ * <p>
+ * Open loop: requests start at a fixed rate whatever the responses do, each on its own virtual
+ * thread, as independent clients would send them. Closed loop: a fixed number of users each send
+ * a request, wait for the response and send the next, optionally paced to a total rate.
+ * </p>
+ * <p>
+ * Whenever there is a schedule, latency is measured from the time a request was due to start
+ * rather than from when it was sent. A stalled server or a driver that falls behind therefore
+ * shows up in the numbers instead of quietly lowering the rate, which corrects for coordinated
+ * omission. An unpaced closed loop has no schedule and reports response times only.
+ * </p>
+ */
+public final class LoadDriver {
+
+    public enum Mode {
+        OPEN,
+        CLOSED
+    }
+
+    /**
+     * @param rate     requests per second over all users; 0 leaves a closed loop unpaced
+     * @param users    concurrent users of a closed loop
+     * @param warmup   time run before recording starts
+     * @param duration time recorded
+     */
+    public record Plan(Mode mode, double rate, int users, Duration warmup, Duration duration) {
+
+        public Plan {
+            if (mode == Mode.OPEN && rate <= 0) {
+                throw new IllegalArgumentException("An open loop needs a rate");
+            }
+            if (mode == Mode.CLOSED && users < 1) {
+                throw new IllegalArgumentException("A closed loop needs at least one user");
+            }
+        }
+    }
+
+    private final Target target;
+    private final OperationMix mix;
+    private final LatencyRecorder recorder;
+
+    public LoadDriver(Target target, OperationMix mix, LatencyRecorder recorder) {
+        this.target = target;
+        this.mix = mix;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Runs the plan and returns once every request it started has completed.
+     */
+    public void run(Plan plan) {
+        long start = System.nanoTime();
+        long recordFrom = start + plan.warmup().toNanos();
+        long end = recordFrom + plan.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (plan.mode() == Mode.OPEN) {
+                openLoop(executor, plan.rate(), start, recordFrom, end);
+            } else {
+                for (int user = 0; user < plan.users(); user++) {
+                    int offset = user;
+                    executor.execute(() -> closedLoop(plan, offset, start, recordFrom, end));
+                }
+            }
+        }
+    }
+
+    private void openLoop(ExecutorService executor, double rate, long start, long recordFrom, long end) {
+        double interval = 1e9 / rate;
+        for (long i = 0; ; i++) {
+            // computed from the start rather than accumulated, so rounding never drifts the rate
+            long intended = start + (long) (i * interval);
+            if (intended - end >= 0) {
+                return;
+            }
+            sleepUntil(intended);
+            Operation operation = mix.next(ThreadLocalRandom.current());
+            executor.execute(() -> send(operation, intended, intended - recordFrom >= 0));
+        }
+    }
+
+    private void closedLoop(Plan plan, int user, long start, long recordFrom, long end) {
+        boolean paced = plan.rate() > 0;
+        double interval = paced ? plan.users() * 1e9 / plan.rate() : 0;
+        // users start spread over one interval instead of all at once
+        long first = start + (long) (interval * user / plan.users());
+        for (long i = 0; ; i++) {
+            long due = paced ? first + (long) (i * interval) : System.nanoTime();
+            if (due - end >= 0) {
+                return;
+            }
+            if (paced) {
+                sleepUntil(due);
+            }
+            send(mix.next(ThreadLocalRandom.current()), due, due - recordFrom >= 0);
+        }
+    }
+
+    private void send(Operation operation, long intended, boolean record) {
+        Target.Outcome outcome;
+        try {
+            outcome = target.execute(operation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = Target.Outcome.ERROR;
+        } catch (Exception e) {
+            outcome = Target.Outcome.ERROR;
+        }
+        if (record) {
+            recorder.record(operation, outcome, System.nanoTime() - intended);
+        }
+    }
+
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
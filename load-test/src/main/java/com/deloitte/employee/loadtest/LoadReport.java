@@ -0,0 +1,110 @@
+package com.deloitte.employee.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Summary of a run per endpoint and over all of them, as text for the console and as JSON.
+ * Latencies are in milliseconds.
+ *
+ * @param endpoints keyed by {@link Operation#key()}, plus {@code all}
+ */
+public record LoadReport(String mode,
+                         double rate,
+                         int users,
+                         String mix,
+                         double durationSeconds,
+                         boolean coordinatedOmissionCorrected,
+                         Map<String, EndpointReport> endpoints) {
+
+    public record EndpointReport(String endpoint,
+                                 long requests,
+                                 long errors,
+                                 double errorRate,
+                                 long skipped,
+                                 double throughput,
+                                 double meanMs,
+                                 double p50Ms,
+                                 double p90Ms,
+                                 double p99Ms,
+                                 double p999Ms,
+                                 double maxMs) {
+
+        static EndpointReport of(String endpoint, Histogram micros, long errors, long skipped, double seconds) {
+            long requests = micros.getTotalCount();
+            return new EndpointReport(
+                    endpoint,
+                    requests,
+                    errors,
+                    requests == 0 ? 0 : (double) errors / requests,
+                    skipped,
+                    requests / seconds,
+                    micros.getMean() / 1000.0,
+                    micros.getValueAtPercentile(50) / 1000.0,
+                    micros.getValueAtPercentile(90) / 1000.0,
+                    micros.getValueAtPercentile(99) / 1000.0,
+                    micros.getValueAtPercentile(99.9) / 1000.0,
+                    micros.getMaxValue() / 1000.0
+            );
+        }
+    }
+
+    static LoadReport of(LoadDriver.Plan plan, OperationMix mix, LatencyRecorder recorder) {
+        double seconds = plan.duration().toNanos() / 1e9;
+        Map<String, EndpointReport> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(LatencyRecorder.HIGHEST_MICROS, 3);
+        long errors = 0;
+        long skipped = 0;
+        for (Operation operation : mix.weights().keySet()) {
+            LatencyRecorder.Endpoint endpoint = recorder.endpoint(operation);
+            Histogram histogram = endpoint.histogram();
+            endpoints.put(operation.key(), EndpointReport.of(
+                    operation.endpoint(), histogram, endpoint.errors(), endpoint.skipped(), seconds));
+            all.add(histogram);
+            errors += endpoint.errors();
+            skipped += endpoint.skipped();
+        }
+        endpoints.put("all", EndpointReport.of("*", all, errors, skipped, seconds));
+
+        return new LoadReport(
+                plan.mode().name().toLowerCase(Locale.ROOT),
+                plan.rate(),
+                plan.mode() == LoadDriver.Mode.CLOSED ? plan.users() : 0,
+                mix.toString(),
+                seconds,
+                plan.mode() == LoadDriver.Mode.OPEN || plan.rate() > 0,
+                endpoints
+        );
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%s loop, %s, %.0fs, mix %s%s%n",
+                mode,
+                rate > 0 ? String.format("%.1f req/s", rate) : users + " users unpaced",
+                durationSeconds,
+                mix,
+                coordinatedOmissionCorrected ? "" : " (latencies are response times, not corrected)"));
+        text.append(String.format("%-8s %9s %8s %9s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "err%", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((key, report) -> text.append(String.format(
+                "%-8s %9d %8d %8.2f%% %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                key, report.requests(), report.errors(), report.errorRate() * 100, report.throughput(),
+                report.p50Ms(), report.p90Ms(), report.p99Ms(), report.p999Ms(), report.maxMs())));
+        return text.toString();
+    }
+
+    public void write(Path path) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(absolute.toFile(), this);
+    }
+}
@@ -0,0 +1,100 @@
+package com.deloitte.employee.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line entry point.
+ * <pre>
+ * --target URL         base URL of a running service, e.g. http://localhost:8080/api/v1
+ * --app-jar PATH       or: start this service jar on H2 instead, with --employees generated rows
+ * --mode open|closed   fixed arrival rate (default) or a fixed number of users
+ * --rate N             requests per second; optional for closed loops, which are then unpaced
+ * --users N            users of a closed loop (default 50)
+ * --duration 60s       recorded time; --warmup 10s runs first without recording
+ * --mix SPEC           e.g. get=40,list=20,search=10,create=10,patch=15,delete=5
+ * --report PATH        JSON report (default build/load-test/report.json)
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        OperationMix mix = OperationMix.parse(options.getOrDefault("mix", "get=40,list=20,search=10,create=10,patch=15,delete=5"));
+        LoadDriver.Plan plan = new LoadDriver.Plan(
+                LoadDriver.Mode.valueOf(options.getOrDefault("mode", "open").toUpperCase(Locale.ROOT)),
+                Double.parseDouble(options.getOrDefault("rate", "0")),
+                Integer.parseInt(options.getOrDefault("users", "50")),
+                duration(options.getOrDefault("warmup", "10s")),
+                duration(options.getOrDefault("duration", "60s"))
+        );
+        Path report = Path.of(options.getOrDefault("report", "build/load-test/report.json"));
+        Duration timeout = duration(options.getOrDefault("timeout", "10s"));
+
+        ApplicationUnderTest application = null;
+        try {
+            URI target;
+            if (options.containsKey("app-jar")) {
+                System.out.println("Starting " + options.get("app-jar") + " on H2 ...");
+                application = ApplicationUnderTest.start(
+                        Path.of(options.get("app-jar")),
+                        Long.parseLong(options.getOrDefault("employees", "100000")),
+                        Integer.parseInt(options.getOrDefault("port", "18080")),
+                        Integer.parseInt(options.getOrDefault("management-port", "18081")),
+                        report.resolveSibling("application.log"));
+                target = application.baseUri();
+            } else if (options.containsKey("target")) {
+                target = URI.create(options.get("target").replaceAll("/+$", ""));
+            } else {
+                throw new IllegalArgumentException("Either --target or --app-jar is required");
+            }
+
+            EmployeeApiTarget api = EmployeeApiTarget.connect(target, timeout,
+                    Integer.parseInt(options.getOrDefault("sampled-ids", "10000")));
+            LatencyRecorder recorder = new LatencyRecorder();
+            System.out.printf("Running %s loop against %s for %s after %s warmup ...%n",
+                    plan.mode().name().toLowerCase(Locale.ROOT), target, plan.duration(), plan.warmup());
+            new LoadDriver(api, mix, recorder).run(plan);
+
+            LoadReport result = LoadReport.of(plan, mix, recorder);
+            System.out.print(result.toText());
+            result.write(report);
+            System.out.println("Report written to " + report.toAbsolutePath());
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --option value, got '" + args[i] + "'");
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    /**
+     * {@code 500ms}, {@code 30s}, {@code 2m} or an ISO-8601 duration.
+     */
+    static Duration duration(String text) {
+        String value = text.strip().toLowerCase(Locale.ROOT);
+        if (value.startsWith("p")) return Duration.parse(value.toUpperCase(Locale.ROOT));
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        if (value.endsWith("m")) return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        throw new IllegalArgumentException("Unsupported duration '" + text + "'");
+    }
+}
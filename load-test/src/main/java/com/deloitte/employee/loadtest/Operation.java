@@ -0,0 +1,43 @@
+package com.deloitte.employee.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Requests the load generator can send, each reported as its own endpoint.
+ */
+public enum Operation {
+    GET_BY_ID("get", "GET /employees/{id}"),
+    LIST("list", "POST /employees/all"),
+    SEARCH("search", "POST /employees/all?search"),
+    CREATE("create", "POST /employees/create"),
+    PATCH("patch", "PATCH /employees/{id}"),
+    DELETE("delete", "DELETE /employees/{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Name used in {@code --mix} and in the report.
+     */
+    public String key() {
+        return key;
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public static Operation of(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key.strip().toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(Operation::key).toList()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.deloitte.employee.loadtest;
+
+/**
+ * The system under load. Implementations block until the response has been read; the driver
+ * calls them from many virtual threads at once.
+ */
+@FunctionalInterface
+public interface Target {
+
+    enum Outcome {
+        OK,
+        ERROR,
+        /**
+         * Nothing was sent, e.g. a delete with no employee left to delete; not counted as a request.
+         */
+        SKIPPED
+    }
+
+    Outcome execute(Operation operation) throws Exception;
+}
@@ -0,0 +1,62 @@
+package com.deloitte.employee.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadDriverTest {
+
+    @Test
+    void openLoop_shouldKeepTheArrivalRateAndCountErrors() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Target target = operation -> operation == Operation.CREATE ? Target.Outcome.ERROR : Target.Outcome.OK;
+
+        new LoadDriver(target, OperationMix.parse("get=1,create=1"), recorder)
+                .run(new LoadDriver.Plan(LoadDriver.Mode.OPEN, 200, 0, Duration.ZERO, Duration.ofSeconds(1)));
+
+        long gets = recorder.endpoint(Operation.GET_BY_ID).requests();
+        long creates = recorder.endpoint(Operation.CREATE).requests();
+        assertThat(gets + creates).isEqualTo(200);
+        assertThat(recorder.endpoint(Operation.CREATE).errors()).isEqualTo(creates);
+        assertThat(recorder.endpoint(Operation.GET_BY_ID).errors()).isZero();
+    }
+
+    @Test
+    void openLoop_shouldCountQueueingBehindASlowServerAsLatency() {
+        // one request at a time, 20ms each: half the offered 100 req/s, so requests queue up
+        Semaphore server = new Semaphore(1);
+        Target target = operation -> {
+            server.acquire();
+            try {
+                Thread.sleep(20);
+                return Target.Outcome.OK;
+            } finally {
+                server.release();
+            }
+        };
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        new LoadDriver(target, OperationMix.parse("get=1"), recorder)
+                .run(new LoadDriver.Plan(LoadDriver.Mode.OPEN, 100, 0, Duration.ZERO, Duration.ofSeconds(1)));
+
+        var histogram = recorder.endpoint(Operation.GET_BY_ID).histogram();
+        assertThat(histogram.getTotalCount()).isEqualTo(100);
+        // the last arrivals wait for about a second of backlog, far above the 20ms service time
+        assertThat(histogram.getMaxValue()).isGreaterThan(Duration.ofMillis(500).toNanos() / 1000);
+    }
+
+    @Test
+    void closedLoop_shouldNotRecordRequestsDuringWarmup() {
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        new LoadDriver(operation -> Target.Outcome.OK, OperationMix.parse("list=1"), recorder)
+                .run(new LoadDriver.Plan(LoadDriver.Mode.CLOSED, 100, 2,
+                        Duration.ofMillis(500), Duration.ofMillis(500)));
+
+        // 100 req/s over both users for the recorded half second, give or take the boundaries
+        assertThat(recorder.endpoint(Operation.LIST).requests()).isBetween(45L, 55L);
+    }
+}
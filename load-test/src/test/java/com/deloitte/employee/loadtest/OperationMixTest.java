@@ -0,0 +1,38 @@
+package com.deloitte.employee.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationMixTest {
+
+    @Test
+    void next_shouldFollowTheWeights() {
+        OperationMix mix = OperationMix.parse("get=70, list=20,delete=10,patch=0");
+        SplittableRandom random = new SplittableRandom(1);
+
+        Map<Operation, Integer> picks = new EnumMap<>(Operation.class);
+        for (int i = 0; i < 100_000; i++) {
+            picks.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(picks).containsOnlyKeys(Operation.GET_BY_ID, Operation.LIST, Operation.DELETE);
+        assertThat(picks.get(Operation.GET_BY_ID)).isBetween(69_000, 71_000);
+        assertThat(picks.get(Operation.DELETE)).isBetween(9_500, 10_500);
+        assertThat(mix).hasToString("get=70,list=20,delete=10");
+    }
+
+    @Test
+    void parse_shouldRejectUnknownOperationsAndEmptyMixes() {
+        assertThatThrownBy(() -> OperationMix.parse("get=1,upsert=1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("upsert");
+        assertThatThrownBy(() -> OperationMix.parse("get=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.deloitte.employee.application.config;
+
+import com.deloitte.employee.infra.generator.EmployeeDataGenerator;
+import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.GenericListResponse;
+import com.deloitte.employee.presentation.mapper.EmployeeDataMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Serializing a 1000-item list page with the application's {@code ObjectMapper}.
+ */
+@State(Scope.Thread)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private ObjectWriter writer;
+    private GenericListResponse<EmployeeDetail> page;
+
+    @Setup
+    public void setup() {
+        // the writer the HTTP message converter resolves for the response type
+        writer = new JsonConfiguration().objectMapper()
+                .writerFor(new TypeReference<GenericListResponse<EmployeeDetail>>() {
+                });
+
+        EmployeeDataGenerator generator = new EmployeeDataGenerator(42, PAGE_SIZE, 8);
+        EmployeeDataMapper mapper = new EmployeeDataMapper();
+        List<EmployeeDetail> data = LongStream.range(0, PAGE_SIZE)
+                .mapToObj(generator::employee)
+                .map(mapper::toDetail)
+                .toList();
+        page = GenericListResponse.<EmployeeDetail>builder()
+                .data(data)
+                .meta(GenericListResponse.Meta.builder().page(0).size(PAGE_SIZE).hasNext(true).build())
+                .build();
+    }
+
+    /**
+     * Streamed into the response as MVC does; the output itself costs nothing.
+     */
+    @Benchmark
+    public void writeToStream() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), page);
+    }
+
+    @Benchmark
+    public byte[] writeToBytes() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+}
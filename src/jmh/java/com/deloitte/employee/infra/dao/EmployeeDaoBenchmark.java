@@ -0,0 +1,254 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.ApplicationEntrypoint;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.domain.valueobject.PageResult;
+import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
+import com.deloitte.employee.infra.generator.EmployeeDataGenerator;
+import io.vavr.control.Option;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link IEmployeeManagementDao} operations against embedded H2 holding {@link #rows} generated
+ * employees, for each DAO implementation in {@link #dao}. Sample time mode reports latency
+ * percentiles; run with {@link SqlStatementProfiler} to see the SQL statements per operation.
+ * <p>
+ * The application is started with the {@code local,generate} profiles on an H2 file under
+ * {@code build/jmh-db}, one per row count, so a dataset is generated once and reused by every
+ * later fork. The generated rows are only ever read: updates go to a pool of rows the benchmark
+ * inserts itself, and every row it writes is removed when the trial ends, so the dataset stays
+ * identical across runs.
+ * </p>
+ * <p>
+ * The caching DAO answers repeated list pages and ids it has seen from memory, which is what it
+ * is for; its list benchmarks therefore measure cache hits once warmed up.
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EmployeeDaoBenchmark {
+
+    private static final String CREATED_BY = "benchmark";
+    private static final int SPAN_OF_CONTROL = 8;
+    private static final int SAMPLED_IDS = 1 << 16;
+    private static final int OWN_IDS = 1 << 10;
+    private static final String INSERT = "INSERT INTO employees "
+            + "(id, email, password, full_name, is_active, created_at, created_by, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    /**
+     * Bean name of the implementation under test; any {@link IEmployeeManagementDao} bean can be named.
+     */
+    @Param({"employeeManagementDao", "cachingEmployeeManagementDao"})
+    public String dao;
+
+    private ConfigurableApplicationContext context;
+    private IEmployeeManagementDao employees;
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeDataGenerator generator;
+    private String[] ids;
+    private String[] ownIds;
+    private final AtomicLong updates = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(ApplicationEntrypoint.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local", "generate")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:file:./build/jmh-db/employees-" + rows
+                                + ";MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.generate_statistics=true",
+                        "--application.employee-management.generator.count=" + rows,
+                        "--application.employee-management.generator.span-of-control=" + SPAN_OF_CONTROL,
+                        "--logging.level.root=WARN"
+                );
+        employees = context.getBean(dao, IEmployeeManagementDao.class);
+        jdbcTemplate = context.getBean("employeeManagementJdbcTemplate", JdbcTemplate.class);
+        generator = new EmployeeDataGenerator(
+                context.getEnvironment().getProperty("application.employee-management.generator.seed", Long.class, 42L),
+                rows, SPAN_OF_CONTROL);
+
+        // rows are generated in index order, so the last one tells whether a dataset is complete
+        Integer last = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, generator.id(rows - 1));
+        if (last == null || last == 0) {
+            throw new IllegalStateException("Incomplete dataset of " + rows + " employees, delete build/jmh-db and rerun");
+        }
+
+        // uniform over the whole table, more than the by-id cache holds at the larger sizes
+        ids = new String[SAMPLED_IDS];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = generator.id(random.nextLong(rows));
+        }
+
+        // update targets, so that patching never touches the generated rows
+        ownIds = new String[OWN_IDS];
+        for (int i = 0; i < ownIds.length; i++) {
+            ownIds[i] = insert(newEmployee());
+        }
+
+        SqlStatementProfiler.watch(context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics());
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        jdbcTemplate.update("DELETE FROM employees WHERE created_by = ?", CREATED_BY);
+        context.close();
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(SAMPLED_IDS)];
+    }
+
+    private String randomOwnId() {
+        return ownIds[ThreadLocalRandom.current().nextInt(OWN_IDS)];
+    }
+
+    /**
+     * Inserts over plain JDBC so that neither the DAO nor the statement count sees it.
+     */
+    private String insert(Employee employee) {
+        jdbcTemplate.update(INSERT,
+                employee.getId(), employee.getEmail(), employee.getPassword(), employee.getFullName(),
+                employee.getIsActive(), Timestamp.valueOf(employee.getCreatedAt()), CREATED_BY);
+        return employee.getId();
+    }
+
+    /**
+     * A new employee reporting to an existing manager; ids and emails are random so reruns
+     * against the same file never collide.
+     */
+    private Employee newEmployee() {
+        String id = UUID.randomUUID().toString();
+        return generator.employee(ThreadLocalRandom.current().nextLong(rows)).toBuilder()
+                .id(id)
+                .email(id + "@benchmark.example.com")
+                .createdBy(CREATED_BY)
+                .updatedBy(CREATED_BY)
+                .version(null)
+                .build();
+    }
+
+    @State(Scope.Thread)
+    public static class ListPage {
+
+        @Param({"0", "100", "400"})
+        public int page;
+
+        Query<EmployeeSortField> all;
+        Query<EmployeeSortField> search;
+
+        @Setup(Level.Trial)
+        public void prepare() {
+            PageResult pageResult = PageResult.of(page, 20).get();
+            all = Query.<EmployeeSortField>of(pageResult, EmployeeSortField.defaultSorts(), Search.empty()).get();
+
+            Search engineers = Search.empty();
+            engineers.add("designation", "engineer");
+            engineers.filter(SearchCriterion.eq("isActive", "true").get());
+            search = Query.of(pageResult, EmployeeSortField.defaultSorts(), engineers).get();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class NewEmployee {
+
+        Employee employee;
+
+        @Setup(Level.Invocation)
+        public void next(EmployeeDaoBenchmark benchmark) {
+            employee = benchmark.newEmployee();
+        }
+    }
+
+    /**
+     * An employee without reports to delete.
+     */
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        String id;
+
+        @Setup(Level.Invocation)
+        public void insert(EmployeeDaoBenchmark benchmark) {
+            id = benchmark.insert(benchmark.newEmployee());
+        }
+    }
+
+    @Benchmark
+    public List<Employee> getEmployees(ListPage page) {
+        return employees.getEmployees(page.all).getOrElseThrow(failure -> failure);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesWithSearch(ListPage page) {
+        return employees.getEmployees(page.search).getOrElseThrow(failure -> failure);
+    }
+
+    @Benchmark
+    public Option<Employee> getEmployeeById() {
+        return employees.getEmployeeById(randomId()).getOrElseThrow(failure -> failure);
+    }
+
+    @Benchmark
+    public Employee createEmployee(NewEmployee input) {
+        return employees.createEmployee(input.employee).getOrElseThrow(failure -> failure);
+    }
+
+    @Benchmark
+    public Employee updateEmployee() {
+        // a new name every time, as a patch that changes nothing issues no UPDATE
+        Employee patch = Employee.builder()
+                .fullName("Updated " + updates.incrementAndGet())
+                .updatedBy(CREATED_BY)
+                .updatedAt(LocalDateTime.now())
+                .build();
+        return employees.updateEmployee(randomOwnId(), patch).getOrElseThrow(failure -> failure);
+    }
+
+    @Benchmark
+    public void deleteEmployee(DeleteTarget target) {
+        Option<OperationFailure> failure = employees.deleteEmployee(target.id);
+        if (failure.isDefined()) {
+            throw failure.get();
+        }
+    }
+}
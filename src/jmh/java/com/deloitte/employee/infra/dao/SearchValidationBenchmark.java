@@ -0,0 +1,67 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import com.deloitte.employee.domain.support.EntitySearchValidationSupport;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
+import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link EntitySearchValidationSupport#validateSearch} as run before every list, count and export
+ * read: once with the field types reflected per call (the interface default) and once with them
+ * cached the way {@link EmployeeManagementDao} does.
+ */
+@State(Scope.Thread)
+public class SearchValidationBenchmark {
+
+    private final EntitySearchValidationSupport<EmployeeJPAEntity> reflective = new EntitySearchValidationSupport<>() {
+        @Override
+        public Set<String> unsearchableFields() {
+            return Set.of("password");
+        }
+    };
+
+    private EntitySearchValidationSupport<EmployeeJPAEntity> cached;
+    private Search search;
+
+    @Setup
+    public void setup() {
+        Map<String, Class<?>> fieldTypes = reflective.searchableFieldTypes(EmployeeJPAEntity.class);
+        cached = new EntitySearchValidationSupport<>() {
+            @Override
+            public Set<String> unsearchableFields() {
+                return Set.of("password");
+            }
+
+            @Override
+            public Map<String, Class<?>> searchableFieldTypes(Class<? extends EmployeeJPAEntity> entityClass) {
+                return fieldTypes;
+            }
+        };
+
+        search = Search.empty();
+        search.add("designation", "engineer");
+        search.add("address", "austin");
+        search.filter(SearchCriterion.eq("isActive", "true").get());
+        search.filter(SearchCriterion.range("createdAt", "2020-01-01T00:00:00", "2025-01-01T00:00:00").get());
+        search.filter(SearchCriterion.prefix("fullName", "Ja").get());
+    }
+
+    @Benchmark
+    public Either<ValidationFailure, Search> validateReflectingFields() {
+        return reflective.validateSearch(search, EmployeeJPAEntity.class);
+    }
+
+    @Benchmark
+    public Either<ValidationFailure, Search> validateWithCachedFields() {
+        return cached.validateSearch(search, EmployeeJPAEntity.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.deloitte.employee.infra.dao;
+
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reports {@code sql.statements.norm}, the JDBC statements Hibernate prepared per benchmark
+ * operation, next to the timings. Benchmarks opt in with {@link #watch}; others report nothing.
+ * Statements issued outside Hibernate, e.g. through a {@code JdbcTemplate} in a setup method,
+ * are not counted.
+ */
+public class SqlStatementProfiler implements InternalProfiler {
+
+    private static volatile Statistics statistics;
+
+    private long statementsBefore = -1;
+
+    /**
+     * Counts the statements of this session factory from the next iteration on.
+     */
+    static void watch(Statistics sessionFactoryStatistics) {
+        sessionFactoryStatistics.setStatisticsEnabled(true);
+        statistics = sessionFactoryStatistics;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Hibernate JDBC statements per operation";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        Statistics current = statistics;
+        statementsBefore = current == null ? -1 : current.getPrepareStatementCount();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams,
+                                                       IterationResult result) {
+        Statistics current = statistics;
+        long ops = result.getMetadata().getMeasuredOps();
+        // trial setup registers the statistics during the first iteration, which has no baseline
+        if (current == null || statementsBefore < 0 || ops == 0) {
+            return List.of();
+        }
+        double perOp = (double) (current.getPrepareStatementCount() - statementsBefore) / ops;
+        return List.of(new ScalarResult("sql.statements.norm", perOp, "statements/op", AggregationPolicy.AVG));
+    }
+}
@@ -0,0 +1,55 @@
+package com.deloitte.employee.infra.mapper;
+
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
+import com.deloitte.employee.infra.generator.EmployeeDataGenerator;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity/domain mapping done for every row read and every update.
+ */
+@State(Scope.Thread)
+public class EmployeeJPAMapperBenchmark {
+
+    private EmployeeJPAMapper mapper;
+    private EmployeeJPAEntity entity;
+    private Employee[] patches;
+    private int next;
+
+    @Setup
+    public void setup() {
+        // merge only asks the repository for a manager reference when the manager changes,
+        // which none of the patches below do
+        mapper = new EmployeeJPAMapper(null);
+
+        Employee employee = new EmployeeDataGenerator(42, 100, 8).employee(20);
+        entity = mapper.toEntity(employee, EmployeeJPAEntity.builder().id(employee.getManagerId()).build());
+        entity.setVersion(3L);
+
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        patches = new Employee[]{
+                Employee.builder().fullName("Jane Doe").designation("Architect").phoneNumber("+1-212-555-0100")
+                        .updatedBy("benchmark").updatedAt(now).build(),
+                Employee.builder().fullName("John Doe").designation("Staff Engineer").phoneNumber("+1-415-555-0199")
+                        .updatedBy("benchmark").updatedAt(now.plusSeconds(1)).build()
+        };
+    }
+
+    @Benchmark
+    public Employee toDomain() {
+        return mapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Either<ValidationFailure, EmployeeJPAEntity> merge() {
+        // alternating patches make every call a real change instead of the no-op path
+        return mapper.merge(entity, patches[next++ & 1]);
+    }
+}
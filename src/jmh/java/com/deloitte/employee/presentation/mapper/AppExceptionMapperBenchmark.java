@@ -0,0 +1,42 @@
+package com.deloitte.employee.presentation.mapper;
+
+import com.deloitte.employee.domain.entities.ErrorDetail;
+import com.deloitte.employee.domain.failure.InfraStructureFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import com.deloitte.employee.presentation.exception.AppException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Mapping a failure to the exception the error handler renders; runs for every rejected request.
+ */
+@State(Scope.Thread)
+public class AppExceptionMapperBenchmark {
+
+    private final AppExceptionMapper mapper = new AppExceptionMapper();
+    private ValidationFailure validationFailure;
+    private InfraStructureFailure infraStructureFailure;
+
+    @Setup
+    public void setup() {
+        validationFailure = new ValidationFailure(List.of(
+                ErrorDetail.builder().field("email").message("Email is already in use").code("ERR_EMAIL_TAKEN").build(),
+                ErrorDetail.builder().field("dob").message("Date of birth is in the future").code("ERR_INVALID_DOB").build()));
+        infraStructureFailure = new InfraStructureFailure(List.of(
+                ErrorDetail.builder().message("Connection refused").code("ERR_DB").build()));
+    }
+
+    @Benchmark
+    public AppException mapValidationFailure() {
+        return mapper.map(validationFailure);
+    }
+
+    @Benchmark
+    public AppException mapInfraStructureFailure() {
+        return mapper.map(infraStructureFailure);
+    }
+}
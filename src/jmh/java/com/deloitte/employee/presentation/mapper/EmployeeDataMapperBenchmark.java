@@ -0,0 +1,47 @@
+package com.deloitte.employee.presentation.mapper;
+
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.infra.generator.EmployeeDataGenerator;
+import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
+import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * DTO mapping done for every employee in a response and every employee in a request.
+ */
+@State(Scope.Thread)
+public class EmployeeDataMapperBenchmark {
+
+    private final EmployeeDataMapper mapper = new EmployeeDataMapper();
+    private Employee employee;
+    private EmployeeDetailInput input;
+
+    @Setup
+    public void setup() {
+        employee = new EmployeeDataGenerator(42, 100, 8).employee(20);
+        input = EmployeeDetailInput.builder()
+                .email(employee.getEmail())
+                .fullName(employee.getFullName())
+                .password(employee.getPassword())
+                .phoneNumber(employee.getPhoneNumber())
+                .dob(employee.getDob())
+                .isActive(employee.getIsActive())
+                .designation(employee.getDesignation())
+                .managerId(employee.getManagerId())
+                .address(employee.getAddress())
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeDetail toDetail() {
+        return mapper.toDetail(employee);
+    }
+
+    @Benchmark
+    public Employee toEntity() {
+        return mapper.toEntity(input);
+    }
+}
@@ -0,0 +1,52 @@
+package com.deloitte.employee.presentation.mapper;
+
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turning list request parameters into a {@link Query}, done for every list and export request.
+ */
+@State(Scope.Thread)
+public class QueryMapperBenchmark {
+
+    private final QueryMapper queryMapper = new QueryMapper();
+    private final AppExceptionMapper exceptionMapper = new AppExceptionMapper();
+    private QueryRequest plain;
+    private QueryRequest filtered;
+
+    @Setup
+    public void setup() {
+        plain = QueryRequest.builder().build();
+        filtered = QueryRequest.builder()
+                .page(2)
+                .size(50)
+                .sorts(List.of(
+                        new QueryRequest.SortRequest("FULL_NAME", "ASC"),
+                        new QueryRequest.SortRequest("CREATED_AT", "DESC")))
+                .search(Map.of("designation", "engineer", "address", "austin"))
+                .filters(List.of(
+                        QueryRequest.FilterRequest.builder().field("isActive").op("eq").value("true").build(),
+                        QueryRequest.FilterRequest.builder().field("createdAt").op("range")
+                                .from("2020-01-01T00:00:00").to("2025-01-01T00:00:00").build(),
+                        QueryRequest.FilterRequest.builder().field("fullName").op("prefix").value("Ja").build()))
+                .build();
+    }
+
+    @Benchmark
+    public Query<EmployeeSortField> transformPlain() {
+        return queryMapper.transform(plain, exceptionMapper);
+    }
+
+    @Benchmark
+    public Query<EmployeeSortField> transformFiltered() {
+        return queryMapper.transform(filtered, exceptionMapper);
+    }
+}
@@ -5,10 +5,121 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
 @ConfigurationProperties(prefix = "application.employee-management")
 public class EmployeeManagementProperties {
-    private boolean seed;
+    private Seed seed = new Seed();
+    private SearchIndex searchIndex = new SearchIndex();
+    private Cache cache = new Cache();
+    private Generator generator = new Generator();
+
+    @Getter
+    @Setter
+    public static class Seed {
+        /**
+         * Load the bundled seed employees once the application is ready.
+         */
+        private boolean enabled;
+        /**
+         * Seed file: NDJSON or a JSON array, optionally gzip-compressed. A {@code file:} location
+         * is memory-mapped, which suits files of millions of employees.
+         */
+        private String location = "classpath:content/employees.json";
+        /**
+         * Employees created per transaction while seeding.
+         */
+        private int chunkSize = 500;
+    }
+
+    /**
+     * Synthetic dataset written by the {@code generate} profile.
+     */
+    @Getter
+    @Setter
+    public static class Generator {
+        /**
+         * Number of employees to generate.
+         */
+        private long count = 100_000;
+        /**
+         * Same seed, same employees.
+         */
+        private long seed = 42;
+        /**
+         * Direct reports per manager; the depth of the hierarchy follows from it and the count.
+         */
+        private int spanOfControl = 8;
+        /**
+         * Rows per JDBC batch and transaction.
+         */
+        private int batchSize = 1_000;
+        /**
+         * Stop the application once the rows are written, for one-off runs such as the Gradle task.
+         */
+        private boolean exitWhenDone;
+    }
+
+    @Getter
+    @Setter
+    public static class SearchIndex {
+        /**
+         * Keep an in-process trigram index of the searchable text columns.
+         */
+        private boolean enabled;
+        /**
+         * Above this many candidate ids the index is bypassed in favour of a plain scan.
+         */
+        private int maxCandidates = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private ById byId = new ById();
+        private ListResults list = new ListResults();
+        private Invalidation invalidation = new Invalidation();
+
+        @Getter
+        @Setter
+        public static class ById {
+            private boolean enabled = true;
+            private long maximumSize = 10_000;
+            private Duration ttl = Duration.ofMinutes(5);
+            /**
+             * How long an id that does not exist is remembered as missing.
+             */
+            private Duration negativeTtl = Duration.ofSeconds(10);
+        }
+
+        @Getter
+        @Setter
+        public static class ListResults {
+            private boolean enabled = true;
+            private long maximumSize = 1_000;
+            private Duration ttl = Duration.ofSeconds(30);
+            /**
+             * Eagerness of probabilistic early refresh; 0 disables it, above 1 refreshes earlier.
+             */
+            private double earlyRefreshBeta = 1.0;
+        }
+
+        @Getter
+        @Setter
+        public static class Invalidation {
+            /**
+             * How writes reach the caches of other nodes: "postgres" (LISTEN/NOTIFY) or
+             * "loopback" (within this JVM only).
+             */
+            private String bus = "loopback";
+            /**
+             * A commit that wrote more employees than this tells the other nodes to drop
+             * everything instead of naming each id.
+             */
+            private int publishEverythingAbove = 100;
+        }
+    }
 }
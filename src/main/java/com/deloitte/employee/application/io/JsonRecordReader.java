@@ -0,0 +1,97 @@
+package com.deloitte.employee.application.io;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the records of a JSON upload or file one at a time with Jackson's streaming parser, so
+ * only the current record is ever held in memory. Used by the import endpoint and the seeder.
+ * <p>
+ * The input is either NDJSON (one object per line) or a single JSON array of objects, and may be
+ * gzip-compressed; both are recognised from the content. A record that is valid JSON but does not
+ * bind to the record type is returned as a failed record and reading goes on. Malformed JSON
+ * cannot be skipped reliably, so it ends the input with a
+ * {@link com.fasterxml.jackson.core.JsonProcessingException}.
+ * </p>
+ *
+ * @param <T> type each record binds to
+ */
+public final class JsonRecordReader<T> implements Closeable {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    private final JsonParser parser;
+    private final ObjectMapper mapper;
+    private final Class<T> type;
+    private boolean array;
+    private boolean started;
+    private long records;
+
+    private JsonRecordReader(JsonParser parser, ObjectMapper mapper, Class<T> type) {
+        this.parser = parser;
+        this.mapper = mapper;
+        this.type = type;
+    }
+
+    public static <T> JsonRecordReader<T> open(InputStream in, ObjectMapper mapper, Class<T> type) throws IOException {
+        InputStream buffered = new BufferedInputStream(in);
+        buffered.mark(2);
+        int magic = buffered.read() | (buffered.read() << 8);
+        buffered.reset();
+        InputStream content = magic == GZIP_MAGIC ? new GZIPInputStream(buffered) : buffered;
+        return new JsonRecordReader<>(mapper.getFactory().createParser(content), mapper, type);
+    }
+
+    /**
+     * @return the next record, none once the input is exhausted
+     */
+    public Option<Record<T>> next() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || (array && token == JsonToken.END_ARRAY)) {
+            return Option.none();
+        }
+
+        long line = parser.currentTokenLocation().getLineNr();
+        long index = records++;
+        JsonNode node = parser.readValueAsTree();
+        try {
+            if (node == null || !node.isObject()) {
+                return Option.some(new Record<>(index, line, Either.left("Expected an object")));
+            }
+            return Option.some(new Record<>(index, line, Either.right(mapper.treeToValue(node, type))));
+        } catch (JsonMappingException e) {
+            return Option.some(new Record<>(index, line, Either.left(e.getOriginalMessage())));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * @param index position of the record in the input, from 0
+     * @param line  line of the input the record starts on, from 1
+     * @param input the record, or why it could not be read
+     */
+    public record Record<T>(long index, long line, Either<String, T> input) {
+    }
+}
@@ -21,9 +21,16 @@ public class Employee {
     private Boolean isActive;
     private String designation;
     private String managerId;
+    /**
+     * Email of the manager when the manager is created in the same batch, whose id the caller
+     * cannot know yet; read by batch creation only, never stored
+     */
+    private String managerEmail;
     private String address;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String createdBy;
     private String updatedBy;
+    /** Row version; on update, the version the caller last saw, or null to skip the check */
+    private Long version;
 }
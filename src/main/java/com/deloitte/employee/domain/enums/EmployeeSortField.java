@@ -1,9 +1,20 @@
 package com.deloitte.employee.domain.enums;
 
+import com.deloitte.employee.domain.valueobject.SortSpec;
+
+import java.util.List;
+
 public enum EmployeeSortField {
     CREATED_AT,
     UPDATED_AT,
     FULL_NAME,
     EMAIL,
-    DESIGNATION
+    DESIGNATION;
+
+    /**
+     * Sort applied when a query does not ask for one.
+     */
+    public static List<SortSpec<EmployeeSortField>> defaultSorts() {
+        return List.of(new SortSpec<>(CREATED_AT, SortDirection.ASC));
+    }
 }
@@ -0,0 +1,30 @@
+package com.deloitte.employee.domain.enums;
+
+import io.vavr.control.Option;
+
+public enum EmployeeSuggestField {
+    FULL_NAME("fullName"),
+    EMAIL("email");
+
+    private final String property;
+
+    EmployeeSuggestField(String property) {
+        this.property = property;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    /**
+     * Accepts either the property name ({@code fullName}) or the constant name ({@code FULL_NAME}).
+     */
+    public static Option<EmployeeSuggestField> of(String value) {
+        for (EmployeeSuggestField field : values()) {
+            if (field.property.equals(value) || field.name().equalsIgnoreCase(value)) {
+                return Option.some(field);
+            }
+        }
+        return Option.none();
+    }
+}
@@ -0,0 +1,31 @@
+package com.deloitte.employee.domain.events;
+
+import com.deloitte.employee.domain.entities.Employee;
+
+/**
+ * Published by the persistence layer once a write to an employee has been committed.
+ *
+ * @param type     kind of write
+ * @param id       id of the employee written
+ * @param employee state after the write; null for {@link Type#DELETED}
+ */
+public record EmployeeChangedEvent(Type type, String id, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EmployeeChangedEvent created(Employee employee) {
+        return new EmployeeChangedEvent(Type.CREATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent updated(Employee employee) {
+        return new EmployeeChangedEvent(Type.UPDATED, employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent deleted(String id) {
+        return new EmployeeChangedEvent(Type.DELETED, id, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.deloitte.employee.domain.repository;
+
+public interface IEmployeeCollectionVersion {
+
+    /**
+     * @return token that changes whenever any employee may have been written; only comparable
+     * with tokens from the same node
+     */
+    String collectionVersion();
+}
@@ -4,19 +4,71 @@ import com.deloitte.employee.domain.enums.EmployeeSortField;
 import com.deloitte.employee.domain.failure.OperationFailure;
 import com.deloitte.employee.domain.entities.Employee;
 import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SortSpec;
+import com.deloitte.employee.domain.valueobject.UpsertResult;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface IEmployeeManagementDao {
 
     Either<OperationFailure, List<Employee>> getEmployees(Query<EmployeeSortField> query);
 
+    /**
+     * @param estimated allow a planner estimate instead of an exact count when no criteria are given
+     */
+    Either<OperationFailure, Long> countEmployees(Search search, boolean estimated);
+
+    /**
+     * Hands every employee matching {@code search} to {@code sink}, in {@code sorts} order, while
+     * reading them; nothing is collected, so any number of rows can be streamed. Free-text search
+     * is not supported. Invalid searches fail before {@code sink} is called.
+     *
+     * @return the number of employees streamed
+     */
+    Either<OperationFailure, Long> streamEmployees(Search search,
+                                                   List<SortSpec<EmployeeSortField>> sorts,
+                                                   Consumer<Employee> sink);
+
+    /**
+     * The failure {@link #streamEmployees} would report for {@code search} before reading any
+     * row, without touching the database; for callers that must answer before they stream.
+     */
+    Option<OperationFailure> validateStream(Search search);
+
     Either<OperationFailure, Option<Employee>> getEmployeeById(String id);
 
+    /**
+     * @return the employees that exist, in the order of {@code ids}; ids without an employee are
+     * left out, repeated ids are returned once
+     */
+    Either<OperationFailure, List<Employee>> getEmployeesByIds(List<String> ids);
+
     Either<OperationFailure, Employee> createEmployee(Employee employee);
 
+    /**
+     * Creates every employee that can be created, in one transaction. {@code managerId} refers to
+     * an employee that exists already, {@code managerEmail} to another employee of the batch.
+     * <p>
+     * Employees are checked before anything is inserted and those that fail are reported one by
+     * one. A constraint violation while inserting, i.e. a concurrent write taking an email or
+     * deleting a manager after the checks, rolls back the whole batch instead: nothing is created
+     * and the batch fails as a whole, so it can be retried as it is.
+     * </p>
+     *
+     * @return one result per employee, in order; left only when the batch as a whole failed
+     */
+    Either<OperationFailure, List<Either<OperationFailure, Employee>>> createEmployees(List<Employee> employees);
+
+    /**
+     * Creates the employee, or replaces the employee with the same email, atomically. Optional
+     * fields that are null are cleared on an existing employee.
+     */
+    Either<OperationFailure, UpsertResult> upsertEmployee(Employee employee);
+
     Either<OperationFailure, Employee> updateEmployee(String id, Employee employee);
 
     Option<OperationFailure> deleteEmployee(String id);
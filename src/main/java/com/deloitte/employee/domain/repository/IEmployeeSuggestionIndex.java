@@ -0,0 +1,17 @@
+package com.deloitte.employee.domain.repository;
+
+import com.deloitte.employee.domain.enums.EmployeeSuggestField;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.valueobject.Suggestion;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public interface IEmployeeSuggestionIndex {
+
+    /**
+     * @return at most {@code limit} suggestions whose {@code field} starts with {@code prefix}
+     * (case-insensitive), in lexicographical order of the value
+     */
+    Either<OperationFailure, List<Suggestion>> suggest(EmployeeSuggestField field, String prefix, int limit);
+}
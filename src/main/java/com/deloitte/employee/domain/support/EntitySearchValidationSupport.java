@@ -3,15 +3,38 @@ package com.deloitte.employee.domain.support;
 import com.deloitte.employee.domain.entities.ErrorDetail;
 import com.deloitte.employee.domain.failure.ValidationFailure;
 import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
 import io.vavr.control.Either;
 
 import java.lang.reflect.Field;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
 
 public interface EntitySearchValidationSupport<T> {
 
+    /**
+     * Entity fields that exist but must never be searched on, e.g. credentials.
+     */
+    default Set<String> unsearchableFields() {
+        return Set.of();
+    }
+
+    /**
+     * Type of every field that may be searched on. Reflects over the entity on each call;
+     * implementations on a hot path should cache the result.
+     */
+    default Map<String, Class<?>> searchableFieldTypes(Class<? extends T> entityClass) {
+        Map<String, Class<?>> fieldTypes = new HashMap<>();
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (!unsearchableFields().contains(field.getName())) {
+                fieldTypes.put(field.getName(), field.getType());
+            }
+        }
+        return Map.copyOf(fieldTypes);
+    }
+
     default Either<ValidationFailure, Search> validateSearch(
             Search search,
             Class<? extends T> entityClass
@@ -22,7 +45,7 @@ public interface EntitySearchValidationSupport<T> {
         }
 
         // 2️⃣ If empty → return it
-        if (!search.hasCriteria()) {
+        if (!search.hasCriteria() && !search.hasFilters()) {
             return Either.right(search);
         }
 
@@ -30,20 +53,57 @@ public interface EntitySearchValidationSupport<T> {
         List<ErrorDetail> errors = new ArrayList<>();
         Map<String, String> criteria = search.getCriteria();
 
-        // Build a set of valid field names once
-        var validFields = new java.util.HashSet<String>();
-        for (Field field : entityClass.getDeclaredFields()) {
-            validFields.add(field.getName());
-        }
+        Map<String, Class<?>> fieldTypes = searchableFieldTypes(entityClass);
 
-        // Validate criteria keys
+        // Validate criteria keys; "contains" only makes sense on text columns
         for (String fieldName : criteria.keySet()) {
-            if (!validFields.contains(fieldName)) {
+            if (!fieldTypes.containsKey(fieldName)) {
+                errors.add(invalidField(fieldName));
+            } else if (fieldTypes.get(fieldName) != String.class) {
                 errors.add(
                         ErrorDetail.builder()
                                 .field(fieldName)
-                                .message("Invalid search field")
-                                .code("ERR_INVALID_SEARCH_FIELD")
+                                .message("Contains search is only supported on text fields, use filters instead")
+                                .code("ERR_INVALID_SEARCH_OPERATOR")
+                                .build()
+                );
+            }
+        }
+
+        // Validate filters and convert their values to the field type
+        List<SearchCriterion> typedFilters = new ArrayList<>();
+        for (SearchCriterion criterion : search.getFilters()) {
+            Class<?> type = fieldTypes.get(criterion.field());
+            if (type == null || !isSupported(type)) {
+                errors.add(invalidField(criterion.field()));
+                continue;
+            }
+            boolean text = type == String.class;
+            boolean ordered = type != boolean.class && type != Boolean.class;
+            if ((criterion.operator() == SearchCriterion.Operator.PREFIX && !text)
+                    || (criterion.operator() == SearchCriterion.Operator.RANGE && !ordered)) {
+                errors.add(
+                        ErrorDetail.builder()
+                                .field(criterion.field())
+                                .message("Operator " + criterion.operator() + " is not supported on this field")
+                                .code("ERR_INVALID_SEARCH_OPERATOR")
+                                .build()
+                );
+                continue;
+            }
+
+            try {
+                List<Object> typed = new ArrayList<>();
+                for (Object value : criterion.values()) {
+                    typed.add(value == null ? null : convert(type, value));
+                }
+                typedFilters.add(criterion.withValues(typed));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                errors.add(
+                        ErrorDetail.builder()
+                                .field(criterion.field())
+                                .message("Invalid value for " + type.getSimpleName() + " field")
+                                .code("ERR_INVALID_SEARCH_VALUE")
                                 .build()
                 );
             }
@@ -55,6 +115,38 @@ public interface EntitySearchValidationSupport<T> {
         }
 
         // 5️⃣ Return a defensive copy
-        return Either.right(Search.copyOf(search));
+        return Either.right(search.withFilters(typedFilters));
+    }
+
+    private static ErrorDetail invalidField(String fieldName) {
+        return ErrorDetail.builder()
+                .field(fieldName)
+                .message("Invalid search field")
+                .code("ERR_INVALID_SEARCH_FIELD")
+                .build();
+    }
+
+    private static boolean isSupported(Class<?> type) {
+        return type == String.class
+                || type == LocalDate.class
+                || type == LocalDateTime.class
+                || type == boolean.class || type == Boolean.class
+                || type == int.class || type == Integer.class
+                || type == long.class || type == Long.class;
+    }
+
+    private static Object convert(Class<?> type, Object value) {
+        if (type.isInstance(value)) {
+            return value;
+        }
+        String raw = value.toString().strip();
+        if (type == String.class) return value.toString();
+        if (type == LocalDate.class) return LocalDate.parse(raw);
+        if (type == LocalDateTime.class) return LocalDateTime.parse(raw);
+        if (type == int.class || type == Integer.class) return Integer.valueOf(raw);
+        if (type == long.class || type == Long.class) return Long.valueOf(raw);
+        if ("true".equalsIgnoreCase(raw)) return Boolean.TRUE;
+        if ("false".equalsIgnoreCase(raw)) return Boolean.FALSE;
+        throw new IllegalArgumentException("Not a boolean: " + raw);
     }
 }
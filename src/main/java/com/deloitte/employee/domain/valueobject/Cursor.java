@@ -0,0 +1,93 @@
+package com.deloitte.employee.domain.valueobject;
+
+import com.deloitte.employee.domain.entities.ErrorDetail;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import io.vavr.control.Either;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opaque keyset position: "everything after this row".
+ * <p>
+ * Holds the string form of every sortable key of the last row of a page plus its id, so the
+ * same cursor can be resumed under any sort order; the id acts as the final tiebreaker.
+ * </p>
+ *
+ * @param keys sort field name → value of that field on the last row (null for a NULL column)
+ * @param id   id of the last row
+ */
+public record Cursor(Map<String, String> keys, String id) {
+
+    private static final String VERSION = "v1";
+    private static final String PART_SEPARATOR = ".";
+    private static final String KEY_SEPARATOR = ":";
+    private static final String NULL_MARKER = "~";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public Cursor {
+        keys = Collections.unmodifiableMap(new LinkedHashMap<>(keys));
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(VERSION);
+        keys.forEach((name, value) -> raw.append(PART_SEPARATOR)
+                .append(name)
+                .append(KEY_SEPARATOR)
+                .append(value == null ? NULL_MARKER : encodePart(value)));
+        raw.append(PART_SEPARATOR).append(encodePart(id));
+        return encodePart(raw.toString());
+    }
+
+    public static Either<OperationFailure, Cursor> decode(String token) {
+        try {
+            List<String> parts = List.of(decodePart(token).split("\\" + PART_SEPARATOR, -1));
+            if (parts.size() < 2 || !VERSION.equals(parts.getFirst())) {
+                return Either.left(invalid("Unsupported cursor format"));
+            }
+
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (String part : parts.subList(1, parts.size() - 1)) {
+                int idx = part.indexOf(KEY_SEPARATOR);
+                if (idx <= 0) {
+                    return Either.left(invalid("Malformed cursor key"));
+                }
+                String value = part.substring(idx + 1);
+                keys.put(part.substring(0, idx), NULL_MARKER.equals(value) ? null : decodePart(value));
+            }
+
+            String id = decodePart(parts.getLast());
+            if (id.isBlank()) {
+                return Either.left(invalid("Cursor is missing the row id"));
+            }
+            return Either.right(new Cursor(keys, id));
+        } catch (IllegalArgumentException e) {
+            return Either.left(invalid("Cursor is not a valid token"));
+        }
+    }
+
+    private static String encodePart(String value) {
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static ValidationFailure invalid(String message) {
+        return new ValidationFailure(List.of(
+                ErrorDetail.builder()
+                        .field("cursor")
+                        .message(message)
+                        .code("ERR_INVALID_CURSOR")
+                        .build()
+        ));
+    }
+}
@@ -10,7 +10,8 @@ import java.util.List;
 
 public record Query<SORT_FIELD extends Enum<?>>(PageResult pageRequest,
                                                 List<SortSpec<SORT_FIELD>> sorts,
-                                                Search search
+                                                Search search,
+                                                Cursor cursor
 ) {
 
     public static <SORT_FIELD extends Enum<?>> Either<OperationFailure, Query<SORT_FIELD>> of(
@@ -39,13 +40,25 @@ public record Query<SORT_FIELD extends Enum<?>>(PageResult pageRequest,
             return Either.left(new ValidationFailure(errors));
         }
 
-        return Either.right(new Query<>(pageRequest, sorts, Search.empty()));
+        return Either.right(new Query<>(pageRequest, sorts, Search.empty(), null));
     }
 
     public static <SORT_FIELD extends Enum<?>> Either<OperationFailure, Query<SORT_FIELD>> of(
             PageResult pageRequest,
             List<SortSpec<SORT_FIELD>> sorts,
             Search search
+    ) {
+        return of(pageRequest, sorts, search, null);
+    }
+
+    /**
+     * @param cursor keyset position to resume after; when present the page index is ignored
+     */
+    public static <SORT_FIELD extends Enum<?>> Either<OperationFailure, Query<SORT_FIELD>> of(
+            PageResult pageRequest,
+            List<SortSpec<SORT_FIELD>> sorts,
+            Search search,
+            Cursor cursor
     ) {
         List<ErrorDetail> errors = new ArrayList<>();
 
@@ -71,12 +84,35 @@ public record Query<SORT_FIELD extends Enum<?>>(PageResult pageRequest,
             return Either.left(new ValidationFailure(errors));
         }
 
-        return Either.right(new Query<>(pageRequest, sorts, search));
+        return Either.right(new Query<>(pageRequest, sorts, search, cursor));
     }
 
 
     public static <SORT_FIELD extends Enum<?>> Either<OperationFailure, Query<SORT_FIELD>> defaultQuery() {
         return PageResult.defaultPage()
-                .map(page -> new Query<>(page, List.of(), Search.empty()));
+                .map(page -> new Query<>(page, List.of(), Search.empty(), null));
+    }
+
+    public boolean hasCursor() {
+        return cursor != null;
+    }
+
+    /**
+     * Equal for queries that read the same rows: no sort means the default sort, and
+     * contains-criteria match case-insensitively. The search is copied as it is mutable, and
+     * its string form is canonical, so the result can also be used as a textual key.
+     */
+    public Query<SORT_FIELD> normalized(List<SortSpec<SORT_FIELD>> defaultSorts) {
+        List<SortSpec<SORT_FIELD>> normalizedSorts = (sorts == null || sorts.isEmpty())
+                ? defaultSorts
+                : List.copyOf(sorts);
+
+        Search normalizedSearch = Search.empty();
+        if (search != null) {
+            search.getCriteria().forEach((field, value) -> normalizedSearch.add(field, value.toLowerCase()));
+            search.getFilters().forEach(normalizedSearch::filter);
+            normalizedSearch.text(search.getText());
+        }
+        return new Query<>(pageRequest, normalizedSorts, normalizedSearch, cursor);
     }
 }
@@ -2,28 +2,40 @@ package com.deloitte.employee.domain.valueobject;
 
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 @Getter
 public final class Search {
 
     private final Map<String, String> criteria;
 
-    private Search(Map<String, String> criteria) {
+    /** Typed filters, AND-ed with the criteria */
+    private final List<SearchCriterion> filters;
+
+    /** Free text matched against all searchable columns and ranked by relevance */
+    private String text;
+
+    private Search(Map<String, String> criteria, List<SearchCriterion> filters) {
         this.criteria = criteria;
+        this.filters = filters;
     }
 
     /** Create an empty Search */
     public static Search empty() {
-        return new Search(new HashMap<>());
+        return new Search(new HashMap<>(), new ArrayList<>());
     }
 
 
     /** Create a copy of an existing Search */
     public static Search copyOf(Search other) {
-        return new Search(new HashMap<>(other.criteria));
+        Search copy = new Search(new HashMap<>(other.criteria), new ArrayList<>(other.filters));
+        copy.text = other.text;
+        return copy;
     }
 
     /** Add a new search criterion */
@@ -33,19 +45,52 @@ public final class Search {
         }
     }
 
+    /** Add a typed filter */
+    public void filter(SearchCriterion criterion) {
+        filters.add(criterion);
+    }
+
+    /** Copy of this search with the filters replaced */
+    public Search withFilters(List<SearchCriterion> replacement) {
+        Search copy = new Search(new HashMap<>(criteria), new ArrayList<>(replacement));
+        copy.text = text;
+        return copy;
+    }
+
+    /** Set the free-text query */
+    public void text(String text) {
+        this.text = (text == null || text.isBlank()) ? null : text.strip();
+    }
+
     public boolean hasCriteria() {
         return !criteria.isEmpty();
     }
 
+    public boolean hasFilters() {
+        return !filters.isEmpty();
+    }
+
+    public boolean hasText() {
+        return text != null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == this) return true;
         if (!(o instanceof Search other)) return false;
-        return Objects.equals(criteria, other.criteria);
+        return Objects.equals(criteria, other.criteria)
+                && Objects.equals(filters, other.filters)
+                && Objects.equals(text, other.text);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(criteria);
+        return Objects.hash(criteria, filters, text);
+    }
+
+    /** Criteria in field order, so equal searches print the same */
+    @Override
+    public String toString() {
+        return "Search[criteria=" + new TreeMap<>(criteria) + ", filters=" + filters + ", text=" + text + "]";
     }
 }
@@ -0,0 +1,96 @@
+package com.deloitte.employee.domain.valueobject;
+
+import com.deloitte.employee.domain.entities.ErrorDetail;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A typed filter on a single field. Values arrive as strings and are converted to the field's
+ * type by {@link com.deloitte.employee.domain.support.EntitySearchValidationSupport}.
+ *
+ * @param values EQ and PREFIX: one value; IN: one or more; RANGE: inclusive lower and exclusive
+ *               upper bound, either of which may be null; IS_NULL: none
+ */
+public record SearchCriterion(String field, Operator operator, List<Object> values) {
+
+    public enum Operator {
+        EQ,
+        PREFIX,
+        IN,
+        RANGE,
+        IS_NULL
+    }
+
+    public static Either<OperationFailure, SearchCriterion> of(String field, Operator operator, List<?> values) {
+        List<ErrorDetail> errors = new ArrayList<>();
+        List<Object> copy = values == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(values));
+
+        if (field == null || field.isBlank()) {
+            errors.add(ErrorDetail.builder()
+                    .field("filters.field")
+                    .message("Filter field cannot be blank")
+                    .code("ERR_NULL_FIELD")
+                    .build());
+        }
+
+        if (operator == null) {
+            errors.add(ErrorDetail.builder()
+                    .field("filters.op")
+                    .message("Filter operator cannot be null")
+                    .code("ERR_INVALID_SEARCH_OPERATOR")
+                    .build());
+        } else {
+            boolean arityMatches = switch (operator) {
+                case EQ, PREFIX -> copy.size() == 1 && copy.getFirst() != null;
+                case IN -> !copy.isEmpty() && !copy.contains(null);
+                case RANGE -> copy.size() == 2 && (copy.get(0) != null || copy.get(1) != null);
+                case IS_NULL -> copy.isEmpty();
+            };
+            if (!arityMatches) {
+                errors.add(ErrorDetail.builder()
+                        .field(field)
+                        .message("Invalid values for operator " + operator)
+                        .code("ERR_INVALID_SEARCH_VALUE")
+                        .build());
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return Either.left(new ValidationFailure(errors));
+        }
+        return Either.right(new SearchCriterion(field, operator, copy));
+    }
+
+    public static Either<OperationFailure, SearchCriterion> eq(String field, Object value) {
+        return of(field, Operator.EQ, Collections.singletonList(value));
+    }
+
+    public static Either<OperationFailure, SearchCriterion> prefix(String field, String value) {
+        return of(field, Operator.PREFIX, Collections.singletonList(value));
+    }
+
+    public static Either<OperationFailure, SearchCriterion> in(String field, Object... values) {
+        return of(field, Operator.IN, Arrays.asList(values));
+    }
+
+    public static Either<OperationFailure, SearchCriterion> range(String field, Object from, Object to) {
+        return of(field, Operator.RANGE, Arrays.asList(from, to));
+    }
+
+    public static Either<OperationFailure, SearchCriterion> isNull(String field) {
+        return of(field, Operator.IS_NULL, List.of());
+    }
+
+    /**
+     * Same field and operator with converted values.
+     */
+    public SearchCriterion withValues(List<Object> typed) {
+        return new SearchCriterion(field, operator, Collections.unmodifiableList(new ArrayList<>(typed)));
+    }
+}
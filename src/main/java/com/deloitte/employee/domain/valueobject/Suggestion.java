@@ -0,0 +1,8 @@
+package com.deloitte.employee.domain.valueobject;
+
+/**
+ * @param id    employee the suggestion points at
+ * @param value field value that matched the prefix, as stored
+ */
+public record Suggestion(String id, String value) {
+}
@@ -0,0 +1,17 @@
+package com.deloitte.employee.domain.valueobject;
+
+import com.deloitte.employee.domain.entities.Employee;
+
+/**
+ * @param employee state after the upsert
+ * @param outcome  what the upsert did to the stored employee
+ */
+public record UpsertResult(Employee employee, Outcome outcome) {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        /** an employee with these values already existed, nothing was written */
+        UNCHANGED
+    }
+}
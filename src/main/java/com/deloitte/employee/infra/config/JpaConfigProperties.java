@@ -16,7 +16,11 @@ public class JpaConfigProperties {
     private String databasePlatform;
     private boolean showSql;
     private HibernateProperties hibernate;
-    private Map<String, Object> properties;
+    /**
+     * Flat Hibernate settings, e.g. {@code hibernate.jdbc.batch_size}. String values make the
+     * binder flatten nested YAML into dotted keys, which is what Hibernate reads.
+     */
+    private Map<String, String> properties;
 
     @Getter
     @Setter
@@ -0,0 +1,355 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.repository.IEmployeeCollectionVersion;
+import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SortSpec;
+import com.deloitte.employee.domain.valueobject.UpsertResult;
+import com.deloitte.employee.infra.invalidation.EmployeeInvalidation;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Read-through caches in front of {@link EmployeeManagementDao}.
+ * <p>
+ * By id: entries are bounded by size and expire after a TTL; ids that do not exist are cached as
+ * {@link Option#none()} for a shorter TTL. Writes invalidate the id once their transaction has
+ * committed. Loads run inside Caffeine's per-key computation and {@code invalidate} waits for an
+ * in-flight load of the same key, so a load that read the row before the commit can never
+ * outlive the invalidation: once a write returns, the next read goes to the database.
+ * </p>
+ * <p>
+ * List pages: results are keyed by the normalized query and tagged with the write version they
+ * were read at. Every committed write bumps the version, which retires all pages at once without
+ * tracking which rows a page depends on. The version is sampled before the read, so a page that
+ * races with a write is stored already stale rather than outliving it.
+ * </p>
+ * <p>
+ * The ids a transaction wrote are collected and applied together once it commits, which also
+ * publishes them on the {@link InvalidationBus} as one message instead of one per row; a commit
+ * that wrote more than {@code publishEverythingAbove} rows tells the other nodes to drop
+ * everything instead. Invalidations received from other nodes are applied the same way as local
+ * writes.
+ * </p>
+ */
+@Primary
+@Component
+class CachingEmployeeManagementDao implements IEmployeeManagementDao, IEmployeeCollectionVersion {
+
+    private final EmployeeManagementDao delegate;
+    private final InvalidationBus invalidationBus;
+    private final Cache<String, Option<Employee>> byId;
+    private final Cache<Query<EmployeeSortField>, ListEntry> lists;
+    private final AtomicLong writeVersion = new AtomicLong();
+    // write versions restart on every node start; this keeps versions of different runs apart
+    private final String epoch = UUID.randomUUID().toString();
+    private final int publishEverythingAbove;
+    private final Duration listTtl;
+    private final double earlyRefreshBeta;
+    private final Counter listHits;
+    private final Counter listMisses;
+    private final Counter listEarlyRefreshes;
+
+    CachingEmployeeManagementDao(EmployeeManagementDao delegate,
+                                 EmployeeManagementProperties properties,
+                                 InvalidationBus invalidationBus,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        this.invalidationBus = invalidationBus;
+        this.publishEverythingAbove = properties.getCache().getInvalidation().getPublishEverythingAbove();
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+
+        var byIdSettings = properties.getCache().getById();
+        if (byIdSettings.isEnabled()) {
+            this.byId = Caffeine.newBuilder()
+                    .maximumSize(byIdSettings.getMaximumSize())
+                    .expireAfter(new PresenceExpiry(byIdSettings.getTtl(), byIdSettings.getNegativeTtl()))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(registry, byId, "employee.by-id");
+        } else {
+            this.byId = null;
+        }
+
+        var listSettings = properties.getCache().getList();
+        this.listTtl = listSettings.getTtl();
+        this.earlyRefreshBeta = listSettings.getEarlyRefreshBeta();
+        this.lists = listSettings.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(listSettings.getMaximumSize())
+                        .expireAfterWrite(listTtl)
+                        .build()
+                : null;
+        this.listHits = listCounter(registry, "hit");
+        this.listMisses = listCounter(registry, "miss");
+        this.listEarlyRefreshes = listCounter(registry, "early-refresh");
+
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    private static Counter listCounter(MeterRegistry registry, String result) {
+        return Counter.builder("employee.list.cache")
+                .description("List page cache lookups")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    /**
+     * Number of commits that wrote employees since startup; changes whenever any list page may
+     * have changed.
+     */
+    long writeVersion() {
+        return writeVersion.get();
+    }
+
+    @Override
+    public String collectionVersion() {
+        return epoch + "." + writeVersion.get();
+    }
+
+    @Override
+    public Either<OperationFailure, Option<Employee>> getEmployeeById(String id) {
+        if (byId == null) {
+            return delegate.getEmployeeById(id);
+        }
+        try {
+            // a failed load throws, so failures are returned but never cached
+            return Either.right(byId.get(id, key -> delegate.getEmployeeById(key).getOrElseThrow(f -> f)));
+        } catch (OperationFailure failure) {
+            return Either.left(failure);
+        }
+    }
+
+    /**
+     * Ids found in the cache are answered from it, the rest are read in one go. Those reads are
+     * not put into the cache: a bulk put is not tied to the per-key loads that
+     * {@code invalidate} waits for, so it could store a row a concurrent write just replaced.
+     */
+    @Override
+    public Either<OperationFailure, List<Employee>> getEmployeesByIds(List<String> ids) {
+        if (byId == null) {
+            return delegate.getEmployeesByIds(ids);
+        }
+        Map<String, Option<Employee>> cached = new HashMap<>();
+        List<String> uncached = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            Option<Employee> hit = byId.getIfPresent(id);
+            if (hit != null) {
+                cached.put(id, hit);
+            } else {
+                uncached.add(id);
+            }
+        }
+        if (uncached.isEmpty()) {
+            return Either.right(ordered(ids, cached));
+        }
+        return delegate.getEmployeesByIds(uncached).map(loaded -> {
+            loaded.forEach(employee -> cached.put(employee.getId(), Option.some(employee)));
+            return ordered(ids, cached);
+        });
+    }
+
+    private static List<Employee> ordered(List<String> ids, Map<String, Option<Employee>> byId) {
+        return new LinkedHashSet<>(ids).stream()
+                .flatMap(id -> byId.getOrDefault(id, Option.none()).toJavaStream())
+                .toList();
+    }
+
+    /**
+     * Runs as the write happens, inside its transaction, so the id can be held back until the
+     * commit; without a transaction the write is already visible and is applied at once.
+     */
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyCommitted(Set.of(event.id()));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<String> pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<String> written = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, written);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyCommitted(written);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CachingEmployeeManagementDao.this);
+                }
+            });
+            pending = written;
+        }
+        pending.add(event.id());
+    }
+
+    private void applyCommitted(Set<String> ids) {
+        invalidate(ids);
+        if (ids.size() > publishEverythingAbove) {
+            invalidationBus.publishEverything();
+        } else {
+            invalidationBus.publish(ids);
+        }
+    }
+
+    void onRemoteInvalidation(EmployeeInvalidation invalidation) {
+        if (!invalidation.isEverything()) {
+            invalidate(Set.of(invalidation.employeeId()));
+            return;
+        }
+        writeVersion.incrementAndGet();
+        if (byId != null) {
+            byId.invalidateAll();
+        }
+    }
+
+    private void invalidate(Set<String> ids) {
+        writeVersion.incrementAndGet();
+        if (byId != null) {
+            // CREATED too: the id may be remembered as missing
+            byId.invalidateAll(ids);
+        }
+    }
+
+    @Override
+    public Either<OperationFailure, List<Employee>> getEmployees(Query<EmployeeSortField> query) {
+        if (lists == null) {
+            return delegate.getEmployees(query);
+        }
+
+        Query<EmployeeSortField> key = query.normalized(EmployeeSortField.defaultSorts());
+        long version = writeVersion.get();
+        ListEntry entry = lists.getIfPresent(key);
+        if (entry != null && entry.version() == version) {
+            if (!refreshEarly(entry)) {
+                listHits.increment();
+                return Either.right(entry.employees());
+            }
+            listEarlyRefreshes.increment();
+        } else {
+            listMisses.increment();
+        }
+
+        long start = System.nanoTime();
+        var result = delegate.getEmployees(query);
+        long loaded = System.nanoTime();
+        result.forEach(employees -> lists.put(key, new ListEntry(
+                List.copyOf(employees), version, loaded - start, loaded + listTtl.toNanos())));
+        return result;
+    }
+
+    /**
+     * XFetch: refresh ahead of expiry with a probability that grows as expiry nears and with how
+     * long the page took to load, so one request reloads a popular page while the rest keep
+     * being served the cached one instead of all missing together once it expires.
+     */
+    private boolean refreshEarly(ListEntry entry) {
+        double jitter = -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.nanoTime() + entry.loadNanos() * earlyRefreshBeta * jitter >= entry.expiresAt();
+    }
+
+    @Override
+    public Either<OperationFailure, Long> countEmployees(Search search, boolean estimated) {
+        return delegate.countEmployees(search, estimated);
+    }
+
+    @Override
+    public Either<OperationFailure, Long> streamEmployees(Search search,
+                                                          List<SortSpec<EmployeeSortField>> sorts,
+                                                          Consumer<Employee> sink) {
+        return delegate.streamEmployees(search, sorts, sink);
+    }
+
+    @Override
+    public Option<OperationFailure> validateStream(Search search) {
+        return delegate.validateStream(search);
+    }
+
+    @Override
+    public Either<OperationFailure, Employee> createEmployee(Employee employee) {
+        return delegate.createEmployee(employee);
+    }
+
+    @Override
+    public Either<OperationFailure, List<Either<OperationFailure, Employee>>> createEmployees(List<Employee> employees) {
+        return delegate.createEmployees(employees);
+    }
+
+    @Override
+    public Either<OperationFailure, UpsertResult> upsertEmployee(Employee employee) {
+        return delegate.upsertEmployee(employee);
+    }
+
+    @Override
+    public Either<OperationFailure, Employee> updateEmployee(String id, Employee employee) {
+        return delegate.updateEmployee(id, employee);
+    }
+
+    @Override
+    public Option<OperationFailure> deleteEmployee(String id) {
+        return delegate.deleteEmployee(id);
+    }
+
+    /**
+     * @param loadNanos how long the page took to read, scales the early refresh window
+     * @param expiresAt {@link System#nanoTime()} at which the page expires
+     */
+    private record ListEntry(List<Employee> employees, long version, long loadNanos, long expiresAt) {
+    }
+
+    /**
+     * Employees live for {@code ttl}, remembered misses for {@code negativeTtl}.
+     */
+    private record PresenceExpiry(Duration ttl, Duration negativeTtl) implements Expiry<String, Option<Employee>> {
+
+        @Override
+        public long expireAfterCreate(String key, Option<Employee> value, long currentTime) {
+            return (value.isDefined() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Option<Employee> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Option<Employee> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
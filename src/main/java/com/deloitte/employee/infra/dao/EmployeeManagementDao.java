@@ -3,28 +3,50 @@ package com.deloitte.employee.infra.dao;
 import com.deloitte.employee.domain.entities.Employee;
 import com.deloitte.employee.domain.enums.EmployeeSortField;
 import com.deloitte.employee.domain.entities.ErrorDetail;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
 import com.deloitte.employee.domain.failure.*;
 import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
 import com.deloitte.employee.domain.support.EntitySearchValidationSupport;
 import com.deloitte.employee.domain.support.EntitySortSupport;
+import com.deloitte.employee.domain.valueobject.Cursor;
 import com.deloitte.employee.domain.valueobject.Query;
 import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SortSpec;
+import com.deloitte.employee.domain.valueobject.UpsertResult;
 import com.deloitte.employee.domain.enums.SortDirection;
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
 import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
+import com.deloitte.employee.infra.index.EmployeeTrigramIndex;
 import com.deloitte.employee.infra.mapper.EmployeeJPAMapper;
 import com.deloitte.employee.infra.repositories.EmployeeJPARepository;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
-import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -32,50 +54,72 @@ class EmployeeManagementDao implements IEmployeeManagementDao,
         EntitySortSupport<EmployeeSortField>,
         EntitySearchValidationSupport<EmployeeJPAEntity> {
 
+    /**
+     * Ids bound per {@code IN} query of a multi-get. A power of two, so IN-list padding adds no
+     * parameters, and well below the bind parameter limit of the drivers.
+     */
+    static final int IDS_PER_QUERY = 1024;
+
+    /**
+     * Rows the JDBC driver fetches per round trip while streaming. Bounds the memory a stream
+     * holds; the PostgreSQL driver only uses a cursor when this is set inside a transaction.
+     */
+    static final int STREAM_FETCH_SIZE = 1000;
+
     private final EmployeeJPARepository employeeJPARepository;
     private final EmployeeJPAMapper employeeJPAMapper;
+    private final EmployeeTrigramIndex searchIndex;
+    private final EmployeeManagementProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EmployeeQueryPlanCache queryPlanCache;
+
+    private volatile Map<String, Class<?>> fieldTypes;
 
     @Override
     public Either<OperationFailure, List<Employee>> getEmployees(Query<EmployeeSortField> query) {
         try {
-            var sort =
-                    Sort.by(
-                            Sort.Direction.ASC,
-                            "createdAt"
-                    );
+            List<SortSpec<EmployeeSortField>> sorts = (query.sorts() == null || query.sorts().isEmpty())
+                    ? EmployeeSortField.defaultSorts()
+                    : query.sorts();
+
+            final Either<ValidationFailure, Search> searchResult = validateSearch(query.search(), EmployeeJPAEntity.class);
 
-            if (query.sorts() != null && !query.sorts().isEmpty()) {
-                List<Sort.Order> orders = query.sorts().stream()
-                        .map(s -> new Sort.Order(
-                                s.direction() == SortDirection.ASC
-                                        ? Sort.Direction.ASC
-                                        : Sort.Direction.DESC,
-                                mapSortFieldToColumn(s.field())
-                        ))
-                        .toList();
+            if (searchResult.isLeft()) return Either.left(searchResult.getLeft());
+            Search search = searchResult.get();
+            var pageReq = query.pageRequest();
 
-                sort = Sort.by(orders);
+            if (search.hasText()) {
+                if (search.hasCriteria() || search.hasFilters() || query.hasCursor()) {
+                    return Either.left(unsupportedTextSearch());
+                }
+                return Either.right(findByText(search.getText(), pageReq.offset(), pageReq.size()));
             }
 
-            var pageReq = query.pageRequest();
-            var pageable =
-                    org.springframework.data.domain.PageRequest.of(
-                            pageReq.page(),
-                            pageReq.size(),
-                            sort
-                    );
+            var candidates = indexCandidates(search);
+            if (candidates.exists(Set::isEmpty)) return Either.right(List.of());
 
-            final Either<ValidationFailure, Search> searchResult = validateSearch(query.search(), EmployeeJPAEntity.class);
+            List<Comparable<?>> seekValues = null;
+            if (query.hasCursor()) {
+                var seekResult = parseSeekValues(sorts, query.cursor());
+                if (seekResult.isLeft()) return Either.left(seekResult.getLeft());
+                seekValues = seekResult.get();
+            }
 
-            if (searchResult.isLeft()) return Either.left(searchResult.getLeft());
-            Search search = searchResult.get();
+            var plan = queryPlanCache.plan(EmployeeQueryPlanCache.shapeOf(
+                    search, toSortShapes(sorts), seekValues, candidates.isDefined()));
+            var parameters = EmployeeQueryPlanCache.parameters(
+                    search, seekValues, query.hasCursor() ? query.cursor().id() : null, candidates.getOrNull());
 
-            var spec = buildSearchSpecification(search);
-            var page = (spec == null)
-                    ? employeeJPARepository.findAll(pageable)
-                    : employeeJPARepository.findAll(spec, pageable);
+            // Slice read: the caller detects a next page by over-fetching, so no COUNT(*) is issued.
+            // A keyset page starts right after the cursor, so it never skips rows.
+            var rows = employeeJPARepository.findRows(
+                    plan.select(),
+                    parameters,
+                    query.hasCursor() ? 0 : pageReq.offset(),
+                    pageReq.size()
+            );
 
-            var employees = page
+            var employees = rows
                     .stream()
                     .map(employeeJPAMapper::toDomain)
                     .toList();
@@ -95,30 +139,233 @@ class EmployeeManagementDao implements IEmployeeManagementDao,
         }
     }
 
+    @Override
+    public Either<OperationFailure, Long> countEmployees(Search search, boolean estimated) {
+        try {
+            final Either<ValidationFailure, Search> searchResult = validateSearch(search, EmployeeJPAEntity.class);
+            if (searchResult.isLeft()) return Either.left(searchResult.getLeft());
+
+            if (searchResult.get().hasText()) {
+                if (searchResult.get().hasCriteria() || searchResult.get().hasFilters()) {
+                    return Either.left(unsupportedTextSearch());
+                }
+                var terms = textTerms(searchResult.get().getText());
+                return Either.right(terms.isEmpty() ? 0L : employeeJPARepository.countByText(terms));
+            }
+
+            var candidates = indexCandidates(searchResult.get());
+            if (candidates.exists(Set::isEmpty)) return Either.right(0L);
+
+            var filtered = searchResult.get();
+            if (!filtered.hasCriteria() && !filtered.hasFilters()) {
+                return Either.right(estimated ? employeeJPARepository.estimateCount() : employeeJPARepository.count());
+            }
+
+            var plan = queryPlanCache.plan(EmployeeQueryPlanCache.shapeOf(
+                    filtered, List.of(), null, candidates.isDefined()));
+            return Either.right(employeeJPARepository.countRows(
+                    plan.count(),
+                    EmployeeQueryPlanCache.parameters(filtered, null, null, candidates.getOrNull())
+            ));
+        } catch (Throwable e) {
+            return Either.left(new InfraStructureFailure(
+                    List.of(
+                            ErrorDetail.builder()
+                                    .code("ERR_DB")
+                                    .message(e.getMessage())
+                                    .field("database")
+                                    .build()
+                    )
+            ));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Either<OperationFailure, Long> streamEmployees(Search search,
+                                                          List<SortSpec<EmployeeSortField>> sorts,
+                                                          Consumer<Employee> sink) {
+        try {
+            if (sorts == null || sorts.isEmpty()) sorts = EmployeeSortField.defaultSorts();
 
-    private Specification<EmployeeJPAEntity> buildSearchSpecification(Search search) {
-        if (search == null || !search.hasCriteria()) return null;
+            final Either<OperationFailure, Search> searchResult = streamableSearch(search);
+            if (searchResult.isLeft()) return Either.left(searchResult.getLeft());
+            var filtered = searchResult.get();
 
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
+            var candidates = indexCandidates(filtered);
+            if (candidates.exists(Set::isEmpty)) return Either.right(0L);
 
-            search.getCriteria().forEach((field, value) -> {
-                // Case-insensitive contains
-                predicates.add(cb.like(cb.lower(root.get(field)), "%" + value.toLowerCase() + "%"));
-            });
+            var plan = queryPlanCache.plan(EmployeeQueryPlanCache.shapeOf(
+                    filtered, toSortShapes(sorts), null, candidates.isDefined()));
+            var parameters = EmployeeQueryPlanCache.parameters(filtered, null, null, candidates.getOrNull());
 
-            return cb.and(predicates.toArray(new Predicate[0]));
+            long streamed = 0;
+            try (var rows = employeeJPARepository.streamRows(plan.select(), parameters, STREAM_FETCH_SIZE)) {
+                for (var it = rows.iterator(); it.hasNext(); streamed++) {
+                    sink.accept(employeeJPAMapper.toDomain(it.next()));
+                }
+            }
+            return Either.right(streamed);
+        } catch (Throwable e) {
+            return Either.left(new InfraStructureFailure(
+                    List.of(
+                            ErrorDetail.builder()
+                                    .code("ERR_DB")
+                                    .message(e.getMessage())
+                                    .field("database")
+                                    .build()
+                    )
+            ));
+        }
+    }
+
+    @Override
+    public Option<OperationFailure> validateStream(Search search) {
+        return streamableSearch(search).swap().toOption();
+    }
+
+    private Either<OperationFailure, Search> streamableSearch(Search search) {
+        return validateSearch(search, EmployeeJPAEntity.class)
+                .<OperationFailure>mapLeft(failure -> failure)
+                .filterOrElse(filtered -> !filtered.hasText(), filtered -> unsupportedStreamText());
+    }
+
+    private static ValidationFailure unsupportedStreamText() {
+        return new ValidationFailure(List.of(
+                ErrorDetail.builder()
+                        .field("q")
+                        .message("Free-text search is not supported here, use search criteria or filters")
+                        .code("ERR_INVALID_SEARCH")
+                        .build()
+        ));
+    }
+
+    private List<EmployeeQueryPlanCache.SortShape> toSortShapes(List<SortSpec<EmployeeSortField>> sorts) {
+        return sorts.stream()
+                .map(s -> new EmployeeQueryPlanCache.SortShape(
+                        mapSortFieldToColumn(s.field()),
+                        s.direction() == SortDirection.ASC
+                ))
+                .toList();
+    }
+
+    /**
+     * The cursor's value for every sort key, typed like the column it is compared with.
+     */
+    private static Either<OperationFailure, List<Comparable<?>>> parseSeekValues(
+            List<SortSpec<EmployeeSortField>> sorts,
+            Cursor cursor
+    ) {
+        List<Comparable<?>> values = new ArrayList<>();
+        for (SortSpec<EmployeeSortField> s : sorts) {
+            var key = s.field().name();
+            if (!cursor.keys().containsKey(key)) {
+                return Either.left(invalidCursor("Cursor does not carry sort key " + key));
+            }
+            var raw = cursor.keys().get(key);
+            try {
+                values.add(raw == null ? null : parseSortKey(s.field(), raw));
+            } catch (DateTimeParseException e) {
+                return Either.left(invalidCursor("Cursor carries an invalid value for " + key));
+            }
+        }
+        // may hold nulls, so no List.copyOf
+        return Either.right(values);
+    }
+
+    private static Comparable<?> parseSortKey(EmployeeSortField field, String raw) {
+        return switch (field) {
+            case CREATED_AT, UPDATED_AT -> LocalDateTime.parse(raw);
+            case FULL_NAME, EMAIL, DESIGNATION -> raw;
         };
     }
 
+    private static ValidationFailure invalidCursor(String message) {
+        return new ValidationFailure(List.of(
+                ErrorDetail.builder()
+                        .field("cursor")
+                        .message(message)
+                        .code("ERR_INVALID_CURSOR")
+                        .build()
+        ));
+    }
+
+    /**
+     * Ranked free-text read: the matching ids come back in relevance order from the index, then
+     * their rows are loaded in one {@code IN} query and put back in that order.
+     */
+    private List<Employee> findByText(String text, long offset, int limit) {
+        var terms = textTerms(text);
+        if (terms.isEmpty()) return List.of();
+
+        var ids = employeeJPARepository.findIdsByText(terms, offset, limit);
+        Map<String, Employee> byId = new HashMap<>();
+        for (var row : employeeJPARepository.findRowsByIds(ids)) {
+            var employee = employeeJPAMapper.toDomain(row);
+            byId.put(employee.getId(), employee);
+        }
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Lower-cased runs of letters and digits; everything else separates terms and never reaches
+     * the query text.
+     */
+    private static List<String> textTerms(String text) {
+        return Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static ValidationFailure unsupportedTextSearch() {
+        return new ValidationFailure(List.of(
+                ErrorDetail.builder()
+                        .field("q")
+                        .message("Free-text search cannot be combined with search criteria or a cursor")
+                        .code("ERR_INVALID_SEARCH")
+                        .build()
+        ));
+    }
+
+    /**
+     * Candidate ids from the trigram index, or none when the index cannot answer the criteria or
+     * the candidate set is too large for an {@code IN} list to beat the table scan.
+     */
+    private Option<Set<String>> indexCandidates(Search search) {
+        if (search == null || !search.hasCriteria()) return Option.none();
+        return searchIndex.candidates(search.getCriteria())
+                .filter(ids -> ids.size() <= properties.getSearchIndex().getMaxCandidates());
+    }
+
+    @Override
+    public Set<String> unsearchableFields() {
+        return Set.of("password");
+    }
+
+    /**
+     * The entity's fields never change at runtime, so they are reflected over once.
+     */
+    @Override
+    public Map<String, Class<?>> searchableFieldTypes(Class<? extends EmployeeJPAEntity> entityClass) {
+        var types = fieldTypes;
+        if (types == null) {
+            types = EntitySearchValidationSupport.super.searchableFieldTypes(entityClass);
+            fieldTypes = types;
+        }
+        return types;
+    }
+
 
     @Override
     public Either<OperationFailure, Option<Employee>> getEmployeeById(String id) {
         try {
             return Either.right(
-                    Option.of(employeeJPARepository.findById(id)
-                            .map(employeeJPAMapper::toDomain)
-                            .orElse(null))
+                    Option.ofOptional(employeeJPARepository.findRowById(id)
+                            .map(employeeJPAMapper::toDomain))
             );
         } catch (Throwable e) {
             return Either.left(new InfraStructureFailure(
@@ -133,22 +380,196 @@ class EmployeeManagementDao implements IEmployeeManagementDao,
         }
     }
 
+    @Override
+    public Either<OperationFailure, List<Employee>> getEmployeesByIds(List<String> ids) {
+        try {
+            List<String> distinct = List.copyOf(new LinkedHashSet<>(ids));
+            Map<String, Employee> byId = new HashMap<>();
+            for (int from = 0; from < distinct.size(); from += IDS_PER_QUERY) {
+                var chunk = distinct.subList(from, Math.min(from + IDS_PER_QUERY, distinct.size()));
+                for (var row : employeeJPARepository.findRowsByIds(chunk)) {
+                    var employee = employeeJPAMapper.toDomain(row);
+                    byId.put(employee.getId(), employee);
+                }
+            }
+            return Either.right(distinct.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        } catch (Throwable e) {
+            return Either.left(new InfraStructureFailure(
+                    List.of(
+                            ErrorDetail.builder()
+                                    .code("ERR_DB")
+                                    .message(e.getMessage())
+                                    .field("database")
+                                    .build()
+                    )
+            ));
+        }
+    }
+
+    /**
+     * A single INSERT: a taken email or a missing manager is reported by the unique and foreign
+     * key constraints instead of being looked up first, which would also race with concurrent
+     * creates.
+     */
+    @Transactional
     @Override
     public Either<OperationFailure, Employee> createEmployee(Employee employee) {
+        try {
+            var entity = employeeJPAMapper.toEntity(employee);
+            employeeJPARepository.insert(entity);
+            var created = employeeJPAMapper.toDomain(entity);
+            eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+            return Either.right(created);
+        } catch (Throwable e) {
+            // Roll back quietly instead of failing the commit with UnexpectedRollbackException
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(constraintFailure(e).getOrElse(() -> getException(e).getLeft()));
+        }
+    }
 
+    /**
+     * Set-based batch insert: one query finds the emails already taken, one finds the managers
+     * that exist outside the batch, and the inserts go out as JDBC batches of
+     * {@code hibernate.jdbc.batch_size}. Employees are inserted managers first, so the manager
+     * FK of every row already points at an existing one.
+     * <p>
+     * A savepoint per employee would report a constraint violation against its row, but it
+     * needs a flush per employee and so gives up the JDBC batches; as the checks leave only
+     * concurrent writes to violate a constraint, such a violation fails the batch as a whole.
+     * </p>
+     */
+    @Transactional
+    @Override
+    public Either<OperationFailure, List<Either<OperationFailure, Employee>>> createEmployees(List<Employee> employees) {
         try {
-            String email = employee.getEmail();
-            if (employeeJPARepository.existsByEmail(email)) {
-                return Either.left(
-                        new ResourceConflictFailure(List.of(
-                                ErrorDetail.builder().field("email").code("ERR_EMAIL_EXISTS").message("Email already exists").build()
-                        ))
-                );
-            }
-            return Either.right(employeeJPAMapper.toDomain(employeeJPARepository.save(employeeJPAMapper.toEntity(employee))));
+            int size = employees.size();
+            List<Either<OperationFailure, Employee>> results = new ArrayList<>(Collections.nCopies(size, null));
+            if (size == 0) return Either.right(results);
+
+            // Emails: taken ones in one query; within the batch the first occurrence wins
+            Set<String> taken = new HashSet<>(employeeJPARepository.findEmailsIn(
+                    employees.stream().map(Employee::getEmail).collect(Collectors.toSet())));
+            Map<String, Integer> indexByEmail = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                String email = employees.get(i).getEmail();
+                if (taken.contains(email) || indexByEmail.putIfAbsent(email, i) != null) {
+                    results.set(i, Either.left(emailExists()));
+                }
+            }
+
+            // Managers: batch members by managerEmail, existing employees by managerId
+            Map<Integer, Integer> batchManagers = new HashMap<>();
+            Set<String> externalManagerIds = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                Employee employee = employees.get(i);
+                if (results.get(i) != null) continue;
+                if (employee.getManagerId() != null && employee.getManagerEmail() != null) {
+                    results.set(i, Either.left(managerFailure("managerEmail",
+                            "Give either managerId or managerEmail", "ERR_AMBIGUOUS_MANAGER")));
+                } else if (employee.getManagerId() != null) {
+                    externalManagerIds.add(employee.getManagerId());
+                } else if (employee.getManagerEmail() != null) {
+                    Integer manager = indexByEmail.get(employee.getManagerEmail());
+                    if (manager == null) {
+                        results.set(i, Either.left(managerFailure("managerEmail",
+                                "Manager not found in the batch", "ERR_MANAGER_NOT_FOUND")));
+                    } else if (manager == i) {
+                        results.set(i, Either.left(managerFailure("managerEmail",
+                                "Employee cannot manage himself", "ERR_SELF_MANAGER")));
+                    } else {
+                        batchManagers.put(i, manager);
+                    }
+                }
+            }
+            Set<String> existingManagerIds = externalManagerIds.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(employeeJPARepository.findIdsIn(externalManagerIds));
+
+            EmployeeJPAEntity[] entities = new EmployeeJPAEntity[size];
+            for (int i : insertionOrder(batchManagers, results)) {
+                Employee employee = employees.get(i);
+                EmployeeJPAEntity manager = null;
+                if (batchManagers.containsKey(i)) {
+                    manager = entities[batchManagers.get(i)];
+                    // the manager was rejected itself
+                    if (manager == null) {
+                        results.set(i, Either.left(managerFailure("managerEmail",
+                                "Manager could not be created", "ERR_MANAGER_NOT_FOUND")));
+                        continue;
+                    }
+                } else if (employee.getManagerId() != null) {
+                    if (!existingManagerIds.contains(employee.getManagerId())) {
+                        results.set(i, Either.left(managerFailure("Manager not found", "ERR_MANAGER_NOT_FOUND")));
+                        continue;
+                    }
+                    // FK only, no SELECT
+                    manager = employeeJPARepository.getReferenceById(employee.getManagerId());
+                }
+                // version is null, so this persists without the SELECT a merge would issue
+                entities[i] = employeeJPARepository.save(employeeJPAMapper.toEntity(employee, manager));
+            }
+            employeeJPARepository.flush();
+
+            for (int i = 0; i < size; i++) {
+                if (entities[i] != null) {
+                    var created = employeeJPAMapper.toDomain(entities[i]);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+                    results.set(i, Either.right(created));
+                } else if (results.get(i) == null) {
+                    results.set(i, Either.left(managerFailure("Manager chain within the batch is cyclic", "ERR_MANAGER_CYCLE")));
+                }
+            }
+            return Either.right(results);
         } catch (Throwable e) {
-            return getException(e);
+            // Roll back quietly instead of failing the commit with UnexpectedRollbackException
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(constraintFailure(e).getOrElse(() -> getException(e).getLeft()));
+        }
+    }
+
+    /**
+     * Indices still to be inserted, each after the batch member that manages it. Employees whose
+     * manager chain within the batch is cyclic never become ready and are left out.
+     */
+    private static List<Integer> insertionOrder(Map<Integer, Integer> batchManagers, List<?> results) {
+        Map<Integer, List<Integer>> reports = new HashMap<>();
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) != null) continue;
+            Integer manager = batchManagers.get(i);
+            if (manager == null || results.get(manager) != null) {
+                ready.add(i);
+            } else {
+                reports.computeIfAbsent(manager, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(results.size());
+        while (!ready.isEmpty()) {
+            int i = ready.poll();
+            order.add(i);
+            ready.addAll(reports.getOrDefault(i, List.of()));
         }
+        return order;
+    }
+
+    private static ResourceConflictFailure emailExists() {
+        return new ResourceConflictFailure(List.of(
+                ErrorDetail.builder().field("email").code("ERR_EMAIL_EXISTS").message("Email already exists").build()
+        ));
+    }
+
+    private static ValidationFailure managerFailure(String message, String code) {
+        return managerFailure("managerId", message, code);
+    }
+
+    private static ValidationFailure managerFailure(String field, String message, String code) {
+        return new ValidationFailure(List.of(
+                ErrorDetail.builder().field(field).code(code).message(message).build()
+        ));
     }
 
     @Transactional
@@ -159,25 +580,92 @@ class EmployeeManagementDao implements IEmployeeManagementDao,
             if (employeeEntity.isEmpty()) {
                 return Either.left(new ResourceNotFoundFailure(List.of(ErrorDetail.builder().field("id").code("ERR_EMPLOYEE_NOT_FOUND").message("Employee not found").build())));
             }
+            if (employee.getVersion() != null && !employee.getVersion().equals(employeeEntity.get().getVersion())) {
+                return Either.left(versionConflict());
+            }
 
+            Long versionBefore = employeeEntity.get().getVersion();
             var merge = employeeJPAMapper.merge(employeeEntity.get(), employee);
             if (merge.isLeft()) {
                 return Either.left(merge.getLeft());
             }
-            EmployeeJPAEntity updatedEntity = merge.get();
-            var result = employeeJPARepository.save(updatedEntity);
-            return Either.right(employeeJPAMapper.toDomain(result));
+            // The entity is managed, so dirty checking writes it; flushed here so that a concurrent
+            // update, detected by the version in the UPDATE's WHERE clause, fails inside this
+            // method rather than at commit
+            employeeJPARepository.flushOrClear();
+            var result = employeeJPAMapper.toDomain(merge.get());
+            // a patch that changed nothing issued no UPDATE and left the version alone
+            if (!Objects.equals(versionBefore, result.getVersion())) {
+                eventPublisher.publishEvent(EmployeeChangedEvent.updated(result));
+            }
+            return Either.right(result);
+        } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+            // Roll back quietly instead of failing the commit with UnexpectedRollbackException
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(versionConflict());
         } catch (Throwable e) {
-            return getException(e);
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(constraintFailure(e).getOrElse(() -> getException(e).getLeft()));
         }
     }
 
+    /**
+     * One statement in the common cases; reading the row back is only needed when it already had
+     * the given values, as nothing was written to return it.
+     */
+    @Transactional
+    @Override
+    public Either<OperationFailure, UpsertResult> upsertEmployee(Employee employee) {
+        try {
+            var entity = employeeJPAMapper.toEntity(employee.toBuilder()
+                    // PUT replaces the representation; an omitted flag takes its default
+                    .isActive(employee.getIsActive() == null || employee.getIsActive())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+            var written = employeeJPARepository.upsertByEmail(entity).map(employeeJPAMapper::toDomain);
+            if (written.isEmpty()) {
+                return Either.right(new UpsertResult(
+                        employeeJPAMapper.toDomain(employeeJPARepository.findRowByEmail(employee.getEmail()).orElseThrow()),
+                        UpsertResult.Outcome.UNCHANGED
+                ));
+            }
+
+            var result = written.get();
+            if (result.getId().equals(result.getManagerId())) {
+                // the existing employee was named as its own manager; undo the write
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return Either.left(managerFailure("Employee cannot manage himself", "ERR_SELF_MANAGER"));
+            }
+            // inserted rows start at version 0, every update bumps it
+            boolean created = result.getVersion() == 0L;
+            eventPublisher.publishEvent(created ? EmployeeChangedEvent.created(result) : EmployeeChangedEvent.updated(result));
+            return Either.right(new UpsertResult(
+                    result,
+                    created ? UpsertResult.Outcome.CREATED : UpsertResult.Outcome.UPDATED
+            ));
+        } catch (Throwable e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return Either.left(constraintFailure(e).getOrElse(() -> getException(e).getLeft()));
+        }
+    }
+
+    private static ResourceConflictFailure versionConflict() {
+        return new ResourceConflictFailure(List.of(
+                ErrorDetail.builder()
+                        .field("version")
+                        .code("ERR_VERSION_CONFLICT")
+                        .message("Employee was modified by another request, reload it and retry")
+                        .build()
+        ));
+    }
+
     @Transactional
     @Override
     public Option<OperationFailure> deleteEmployee(String id) {
         try {
-            if (employeeJPARepository.existsById(id)) {
-                employeeJPARepository.deleteById(id);
+            // one DELETE; its row count tells whether the employee existed
+            if (employeeJPARepository.deleteRowById(id) > 0) {
+                eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
                 return Option.none();
             } else {
                 return Option.some(new ResourceNotFoundFailure(List.of(ErrorDetail.builder().field("id").code("ERR_EMPLOYEE_NOT_FOUND").message("Employee not found").build())));
@@ -196,6 +684,30 @@ class EmployeeManagementDao implements IEmployeeManagementDao,
         }
     }
 
+    /**
+     * The failure a violated unique or foreign key constraint stands for, found by SQLState so it
+     * does not depend on driver messages or generated constraint names. Inserts and updates only
+     * reference a manager through the foreign key, and {@code email} is the only unique column
+     * besides the generated id.
+     */
+    private static Option<OperationFailure> constraintFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && sql.getSQLState() != null) {
+                String state = sql.getSQLState();
+                // unique_violation; the message names the column on PostgreSQL and H2
+                if (state.equals("23505") && String.valueOf(sql.getMessage()).toLowerCase().contains("email")) {
+                    return Option.some(emailExists());
+                }
+                // foreign_key_violation; H2 reports a missing parent as 23506
+                if (state.equals("23503") || state.equals("23506")) {
+                    return Option.some(managerFailure("Manager not found", "ERR_MANAGER_NOT_FOUND"));
+                }
+                return Option.none();
+            }
+        }
+        return Option.none();
+    }
+
     private static Either<OperationFailure, Employee> getException(Throwable e) {
         if (e instanceof DuplicateKeyException || e.getMessage().contains("duplicate key value violates unique constraint")) {
             return Either.left(new ValidationFailure(
@@ -0,0 +1,284 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
+import com.deloitte.employee.infra.repositories.EmployeeRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled JPQL for list reads, cached by query shape.
+ * <p>
+ * A shape is everything that changes the text of the query - which fields are searched and how,
+ * the sort fields and directions, whether a cursor (and which of its keys are NULL) or an id
+ * candidate set applies - but none of the values. Requests of the same shape therefore share
+ * one JPQL string, which Hibernate translates to SQL only once, and just bind their values.
+ * </p>
+ */
+@Component
+class EmployeeQueryPlanCache {
+
+    /**
+     * Shapes are bounded by the number of field/operator/sort combinations, but a client can
+     * still make up many of them; past this size new plans are compiled without being kept.
+     */
+    static final int MAX_PLANS = 1024;
+
+    private static final String ROW_SELECT = "SELECT "
+            + "e.id AS " + EmployeeRow.ID + ", "
+            + "e.email AS " + EmployeeRow.EMAIL + ", "
+            + "e.fullName AS " + EmployeeRow.FULL_NAME + ", "
+            + "e.phoneNumber AS " + EmployeeRow.PHONE_NUMBER + ", "
+            + "e.dob AS " + EmployeeRow.DOB + ", "
+            + "e.isActive AS " + EmployeeRow.IS_ACTIVE + ", "
+            + "e.designation AS " + EmployeeRow.DESIGNATION + ", "
+            + "e.manager.id AS " + EmployeeRow.MANAGER_ID + ", "
+            + "e.address AS " + EmployeeRow.ADDRESS + ", "
+            + "e.createdAt AS " + EmployeeRow.CREATED_AT + ", "
+            + "e.updatedAt AS " + EmployeeRow.UPDATED_AT + ", "
+            + "e.version AS " + EmployeeRow.VERSION
+            + " FROM EmployeeJPAEntity e";
+
+    private static final String COUNT_SELECT = "SELECT COUNT(e) FROM EmployeeJPAEntity e";
+
+    private final Map<QueryShape, QueryPlan> plans = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    EmployeeQueryPlanCache(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.hits = Counter.builder("employee.query.plan.cache")
+                .description("List query plan lookups")
+                .tag("result", "hit")
+                .register(registry);
+        this.misses = Counter.builder("employee.query.plan.cache")
+                .description("List query plan lookups")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("employee.query.plan.cache.size", plans, Map::size)
+                .description("Cached list query plans")
+                .register(registry);
+    }
+
+    record FilterShape(String field, SearchCriterion.Operator operator, boolean from, boolean to) {
+    }
+
+    record SortShape(String property, boolean ascending) {
+    }
+
+    /**
+     * @param criteria   contains-criteria fields, sorted
+     * @param seekNulls  per sort key whether the cursor value is NULL; null for offset reads
+     * @param candidates whether the read is restricted to an id candidate set
+     */
+    record QueryShape(List<String> criteria,
+                      List<FilterShape> filters,
+                      List<SortShape> sorts,
+                      List<Boolean> seekNulls,
+                      boolean candidates) {
+
+        boolean keyset() {
+            return seekNulls != null;
+        }
+    }
+
+    /**
+     * @param select row query, parameters named after {@link #parameters}
+     * @param count  COUNT over the same predicates, without the keyset seek
+     */
+    record QueryPlan(String select, String count) {
+    }
+
+    static QueryShape shapeOf(Search search, List<SortShape> sorts, List<?> seekValues, boolean candidates) {
+        List<FilterShape> filters = new ArrayList<>();
+        for (SearchCriterion filter : search.getFilters()) {
+            boolean range = filter.operator() == SearchCriterion.Operator.RANGE;
+            filters.add(new FilterShape(
+                    filter.field(),
+                    filter.operator(),
+                    range && filter.values().get(0) != null,
+                    range && filter.values().get(1) != null
+            ));
+        }
+
+        List<Boolean> seekNulls = null;
+        if (seekValues != null) {
+            seekNulls = new ArrayList<>();
+            for (Object value : seekValues) {
+                seekNulls.add(value == null);
+            }
+        }
+
+        return new QueryShape(
+                List.copyOf(new TreeSet<>(search.getCriteria().keySet())),
+                List.copyOf(filters),
+                List.copyOf(sorts),
+                seekNulls == null ? null : List.copyOf(seekNulls),
+                candidates
+        );
+    }
+
+    QueryPlan plan(QueryShape shape) {
+        QueryPlan plan = plans.get(shape);
+        if (plan != null) {
+            hits.increment();
+            return plan;
+        }
+
+        misses.increment();
+        plan = compile(shape);
+        if (plans.size() < MAX_PLANS) {
+            plans.putIfAbsent(shape, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Values for the named parameters of a plan compiled from the same search, cursor and
+     * candidates.
+     */
+    static Map<String, Object> parameters(Search search, List<?> seekValues, String lastId, Set<String> candidates) {
+        Map<String, Object> parameters = new HashMap<>();
+
+        int i = 0;
+        for (var criterion : new TreeMap<>(search.getCriteria()).entrySet()) {
+            parameters.put("c" + i++, "%" + criterion.getValue().toLowerCase() + "%");
+        }
+
+        i = 0;
+        for (SearchCriterion filter : search.getFilters()) {
+            var values = filter.values();
+            switch (filter.operator()) {
+                case EQ -> parameters.put("f" + i, values.getFirst());
+                case IN -> parameters.put("f" + i, values);
+                case PREFIX -> parameters.put("f" + i, escapeLike((String) values.getFirst()) + "%");
+                case RANGE -> {
+                    if (values.get(0) != null) parameters.put("f" + i + "from", values.get(0));
+                    if (values.get(1) != null) parameters.put("f" + i + "to", values.get(1));
+                }
+                case IS_NULL -> {
+                }
+            }
+            i++;
+        }
+
+        if (candidates != null) {
+            parameters.put("candidates", candidates);
+        }
+
+        if (seekValues != null) {
+            for (i = 0; i < seekValues.size(); i++) {
+                if (seekValues.get(i) != null) parameters.put("k" + i, seekValues.get(i));
+            }
+            parameters.put("lastId", lastId);
+        }
+        return parameters;
+    }
+
+    private static QueryPlan compile(QueryShape shape) {
+        List<String> where = new ArrayList<>();
+
+        for (int i = 0; i < shape.criteria().size(); i++) {
+            // Case-insensitive contains
+            where.add("LOWER(e." + shape.criteria().get(i) + ") LIKE :c" + i);
+        }
+
+        // Typed filters compare the bare column, so a B-tree index on it can serve the predicate
+        for (int i = 0; i < shape.filters().size(); i++) {
+            FilterShape filter = shape.filters().get(i);
+            String path = "e." + filter.field();
+            switch (filter.operator()) {
+                case EQ -> where.add(path + " = :f" + i);
+                case IN -> where.add(path + " IN :f" + i);
+                case PREFIX -> where.add(path + " LIKE :f" + i + " ESCAPE '\\'");
+                case IS_NULL -> where.add(path + " IS NULL");
+                case RANGE -> {
+                    if (filter.from()) where.add(path + " >= :f" + i + "from");
+                    if (filter.to()) where.add(path + " < :f" + i + "to");
+                }
+            }
+        }
+
+        if (shape.candidates()) {
+            where.add("e.id IN :candidates");
+        }
+
+        String filterClause = where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where);
+
+        if (shape.keyset()) {
+            where.add(seek(shape));
+        }
+        String selectClause = where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where);
+
+        return new QueryPlan(
+                ROW_SELECT + selectClause + orderBy(shape),
+                COUNT_SELECT + filterClause
+        );
+    }
+
+    /**
+     * "Seek after" predicate for a keyset page: for sort keys k1..kn and the id tiebreaker it
+     * expands to {@code after(k1) OR (k1 = v1 AND after(k2)) OR ... OR (k1..kn equal AND id > lastId)}.
+     * NULLs sort as the largest value (last on ASC, first on DESC), matching {@link #orderBy}.
+     */
+    private static String seek(QueryShape shape) {
+        List<String> alternatives = new ArrayList<>();
+        List<String> equalPrefix = new ArrayList<>();
+
+        for (int i = 0; i < shape.sorts().size(); i++) {
+            String path = "e." + shape.sorts().get(i).property();
+            boolean isNull = shape.seekNulls().get(i);
+
+            String after;
+            if (shape.sorts().get(i).ascending()) {
+                // NULLS LAST: nothing sorts after a NULL, NULLs sort after every value
+                after = isNull ? null : "(" + path + " > :k" + i + " OR " + path + " IS NULL)";
+            } else {
+                // NULLS FIRST: every value sorts after a NULL
+                after = isNull ? path + " IS NOT NULL" : path + " < :k" + i;
+            }
+            if (after != null) {
+                List<String> branch = new ArrayList<>(equalPrefix);
+                branch.add(after);
+                alternatives.add("(" + String.join(" AND ", branch) + ")");
+            }
+
+            equalPrefix.add(isNull ? path + " IS NULL" : path + " = :k" + i);
+        }
+
+        List<String> tiebreak = new ArrayList<>(equalPrefix);
+        tiebreak.add("e.id > :lastId");
+        alternatives.add("(" + String.join(" AND ", tiebreak) + ")");
+
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    /**
+     * Sort orders followed by {@code id} as tiebreaker so that every row has a unique position.
+     * The NULL ordering is explicit on every read, not only on keyset ones: the first page is
+     * read without a cursor but hands one out, so it must order NULLs the way {@link #seek}
+     * resumes them. NULLS LAST on ASC and NULLS FIRST on DESC are PostgreSQL's defaults, so a
+     * plain B-tree index still serves the order there; H2 and MySQL would sort NULLs first.
+     */
+    private static String orderBy(QueryShape shape) {
+        List<String> orders = new ArrayList<>();
+        for (SortShape sort : shape.sorts()) {
+            orders.add("e." + sort.property() + (sort.ascending() ? " ASC NULLS LAST" : " DESC NULLS FIRST"));
+        }
+        orders.add("e.id ASC");
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +17,13 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = "idx_employees_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_employees_active_created_at", columnList = "is_active, created_at"),
+        @Index(name = "idx_employees_designation", columnList = "designation"),
+        @Index(name = "idx_employees_full_name", columnList = "full_name"),
+        @Index(name = "idx_employees_manager_id", columnList = "manager_id")
+})
 public class EmployeeJPAEntity {
 
     @Id
@@ -68,6 +75,16 @@ public class EmployeeJPAEntity {
     @Column(name = "updated_by")
     private String updatedBy;
 
+    /**
+     * Incremented by every update; an update whose row has moved on since it was read fails
+     * instead of overwriting the newer state. Defaults to 0 for rows written without it, e.g.
+     * rows that existed before the column was added.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     // Optional: Automatically set timestamps
     @PrePersist
     protected void onCreate() {
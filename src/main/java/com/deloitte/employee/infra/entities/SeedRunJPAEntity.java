@@ -0,0 +1,53 @@
+package com.deloitte.employee.infra.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last seed file applied to the database, so an unchanged file is not seeded again on restart.
+ * Its size and last-modified time tell without reading it; the checksum records what was applied.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "seed_runs")
+public class SeedRunJPAEntity {
+
+    /**
+     * Classpath location of the seed file.
+     */
+    @Id
+    @Column(name = "resource", nullable = false)
+    private String resource;
+
+    /**
+     * Hex SHA-256 of the file's bytes.
+     */
+    @Column(name = "checksum", nullable = false, length = 64)
+    private String checksum;
+
+    /**
+     * Size of the file in bytes, null when the resource does not tell.
+     */
+    @Column(name = "content_length")
+    private Long contentLength;
+
+    /**
+     * Last-modified time of the file in epoch milliseconds, null when the resource does not tell.
+     */
+    @Column(name = "last_modified")
+    private Long lastModified;
+
+    @Column(name = "seeded_at", nullable = false)
+    private LocalDateTime seededAt;
+}
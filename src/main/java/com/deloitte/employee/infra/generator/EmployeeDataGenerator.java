@@ -0,0 +1,209 @@
+package com.deloitte.employee.infra.generator;
+
+import com.deloitte.employee.domain.entities.Employee;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Synthetic employees for scale testing, fully determined by a seed.
+ * <p>
+ * Every employee is derived from the seed and its index alone, so any slice of a dataset can be
+ * generated on its own and the same seed always yields the same rows. Employees form a tree in
+ * which each manager has {@code spanOfControl} reports: employee {@code i} reports to
+ * {@code (i - 1) / spanOfControl}, which puts every manager before their reports. Designations
+ * follow the level in that tree; names, cities and streets are skewed towards the head of their
+ * lists the way real name frequencies are.
+ * </p>
+ */
+public final class EmployeeDataGenerator {
+
+    static final String PASSWORD = "Generated#1";
+    static final String CREATED_BY = "generator";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2015, 1, 1, 0, 0);
+    private static final long HISTORY_SECONDS = 10L * 365 * 24 * 3600;
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Christopher", "Lisa", "Daniel", "Nancy", "Matthew", "Sandra", "Anthony", "Ashley", "Mark", "Emily",
+            "Priya", "Wei", "Carlos", "Fatima", "Hiroshi", "Olga", "Mohammed", "Ana", "Raj", "Mei",
+            "Kwame", "Ingrid", "Diego", "Aisha", "Lars", "Sofia", "Chen", "Amara", "Mateo", "Yuki"
+    );
+
+    private static final List<String> LAST_NAMES = List.of(
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+            "Patel", "Nguyen", "Kim", "Singh", "Chen", "Wang", "Kowalski", "Müller", "Rossi", "Silva",
+            "Okafor", "Tanaka", "Ivanova", "Haddad", "Larsen", "Novak", "O'Brien", "Dubois", "Schmidt", "Cohen"
+    );
+
+    private static final List<String> CITIES = List.of(
+            "New York, NY", "San Francisco, CA", "Austin, TX", "Seattle, WA", "Chicago, IL", "Boston, MA",
+            "Denver, CO", "Atlanta, GA", "Los Angeles, CA", "Raleigh, NC", "Portland, OR", "Miami, FL",
+            "Minneapolis, MN", "Phoenix, AZ", "Pittsburgh, PA", "Salt Lake City, UT"
+    );
+
+    private static final List<String> STREETS = List.of(
+            "Main", "Oak", "Maple", "Pine", "Cedar", "Elm", "Washington", "Lake", "Hill", "Park",
+            "Sunset", "River", "Church", "Highland", "Mill", "Spring", "Ridge", "Forest", "Meadow", "Harbor"
+    );
+
+    private static final List<String> STREET_SUFFIXES = List.of("Street", "Avenue", "Road", "Boulevard", "Lane", "Drive");
+
+    private static final List<String> AREA_CODES = List.of("212", "415", "512", "206", "312", "617", "303", "404");
+
+    private static final List<String> EXECUTIVES = List.of(
+            "Chief Technology Officer", "VP Engineering", "VP Product", "Director of Engineering");
+
+    private static final List<String> MANAGERS = List.of(
+            "Engineering Manager", "Engineering Manager", "Engineering Manager", "Product Manager",
+            "QA Manager", "Delivery Manager");
+
+    /**
+     * Individual contributor roles, each repeated by its weight.
+     */
+    private static final List<String> CONTRIBUTORS = weighted(
+            "Software Engineer", 30,
+            "Senior Software Engineer", 18,
+            "QA Engineer", 10,
+            "DevOps Engineer", 7,
+            "Data Engineer", 6,
+            "Frontend Developer", 8,
+            "Business Analyst", 6,
+            "UX Designer", 5,
+            "Technical Writer", 2,
+            "Staff Engineer", 4,
+            "Security Engineer", 2,
+            "Site Reliability Engineer", 2
+    );
+
+    private final long seed;
+    private final long count;
+    private final int spanOfControl;
+
+    public EmployeeDataGenerator(long seed, long count, int spanOfControl) {
+        if (count < 0 || spanOfControl < 1) {
+            throw new IllegalArgumentException("count must be >= 0 and spanOfControl >= 1");
+        }
+        this.seed = seed;
+        this.count = count;
+        this.spanOfControl = spanOfControl;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Deterministic id of the employee at {@code index}.
+     */
+    public String id(long index) {
+        return UUID.nameUUIDFromBytes((seed + ":" + index).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    /**
+     * Index of the manager of the employee at {@code index}, or -1 for the root.
+     */
+    long managerIndex(long index) {
+        return index == 0 ? -1 : (index - 1) / spanOfControl;
+    }
+
+    /**
+     * Depth of the employee at {@code index} in the hierarchy, 0 for the root.
+     */
+    int level(long index) {
+        int level = 0;
+        for (long i = index; i > 0; i = managerIndex(i)) {
+            level++;
+        }
+        return level;
+    }
+
+    private boolean hasReports(long index) {
+        return index * spanOfControl + 1 < count;
+    }
+
+    public Employee employee(long index) {
+        SplittableRandom random = new SplittableRandom(mix(seed, index));
+
+        String first = skewed(random, FIRST_NAMES);
+        String last = skewed(random, LAST_NAMES);
+        LocalDateTime createdAt = EPOCH.plusSeconds(random.nextLong(HISTORY_SECONDS));
+
+        return Employee.builder()
+                .id(id(index))
+                .email(emailPart(first) + "." + emailPart(last) + "." + index + "@example.com")
+                .password(PASSWORD)
+                .fullName(first + " " + last)
+                .phoneNumber("+1-" + AREA_CODES.get(random.nextInt(AREA_CODES.size()))
+                        + "-555-" + String.format("%04d", random.nextInt(10_000)))
+                .dob(dateOfBirth(random))
+                .isActive(random.nextInt(100) >= 4)
+                .designation(designation(random, index))
+                .managerId(index == 0 ? null : id(managerIndex(index)))
+                .address((1 + random.nextInt(9_999)) + " " + skewed(random, STREETS) + " "
+                        + STREET_SUFFIXES.get(random.nextInt(STREET_SUFFIXES.size())) + ", " + skewed(random, CITIES))
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(random.nextInt(365)))
+                .createdBy(CREATED_BY)
+                .updatedBy(CREATED_BY)
+                .version(0L)
+                .build();
+    }
+
+    private String designation(SplittableRandom random, long index) {
+        if (!hasReports(index)) {
+            return CONTRIBUTORS.get(random.nextInt(CONTRIBUTORS.size()));
+        }
+        List<String> roles = level(index) < 2 ? EXECUTIVES : MANAGERS;
+        return roles.get(random.nextInt(roles.size()));
+    }
+
+    /**
+     * Ages 22 to 65, bunched around the early forties.
+     */
+    private static LocalDate dateOfBirth(SplittableRandom random) {
+        double age = 22 + (random.nextDouble() + random.nextDouble() + random.nextDouble()) / 3 * 43;
+        return LocalDate.of(2025, 1, 1).minusDays((long) (age * 365.25));
+    }
+
+    /**
+     * Picks the head of the list far more often than its tail, roughly like a Zipf distribution.
+     */
+    private static String skewed(SplittableRandom random, List<String> values) {
+        double u = random.nextDouble();
+        return values.get((int) (values.size() * u * u * u));
+    }
+
+    private static String emailPart(String name) {
+        return name.toLowerCase().replaceAll("[^a-z]", "");
+    }
+
+    /**
+     * SplitMix64 finalizer over seed and index, so neighbouring rows get unrelated streams.
+     */
+    private static long mix(long seed, long index) {
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static List<String> weighted(Object... roleAndWeight) {
+        List<String> roles = new ArrayList<>();
+        for (int i = 0; i < roleAndWeight.length; i += 2) {
+            for (int w = 0; w < (int) roleAndWeight[i + 1]; w++) {
+                roles.add((String) roleAndWeight[i]);
+            }
+        }
+        return List.copyOf(roles);
+    }
+}
@@ -0,0 +1,154 @@
+package com.deloitte.employee.infra.generator;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the employees table with {@link EmployeeDataGenerator} rows when the {@code generate}
+ * profile is active, e.g. {@code --spring.profiles.active=local,generate} or
+ * {@code ./gradlew generateEmployees -Pcount=1000000}.
+ * <p>
+ * Rows go straight to the table as JDBC batch inserts, one transaction per batch, bypassing the
+ * entity layer, its checks and events. It runs before the application reports ready, so the
+ * in-memory indexes built at that point include the generated rows.
+ * </p>
+ * <p>
+ * Batches commit in index order, so the rows of this seed already in the table are always a
+ * prefix of the dataset. A run resumes after that prefix: an interrupted run is completed and a
+ * larger count extends a smaller dataset, while rows already present are kept as they are.
+ * </p>
+ */
+@Slf4j
+@Component
+@Profile("generate")
+class EmployeeDataGeneratorRunner implements ApplicationRunner {
+
+    static final String INSERT = "INSERT INTO employees (id, email, password, full_name, phone_number, dob, "
+            + "is_active, designation, manager_id, address, created_at, updated_at, created_by, updated_by, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmployeeManagementProperties.Generator settings;
+    private final ApplicationContext context;
+
+    EmployeeDataGeneratorRunner(@Qualifier("employeeManagementJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                EmployeeManagementProperties properties,
+                                ApplicationContext context) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = properties.getGenerator();
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var generator = new EmployeeDataGenerator(settings.getSeed(), settings.getCount(), settings.getSpanOfControl());
+        generate(generator, settings.getBatchSize());
+
+        if (settings.isExitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /**
+     * @return number of rows inserted
+     */
+    long generate(EmployeeDataGenerator generator, int batchSize) {
+        if (generator.count() == 0) {
+            return 0;
+        }
+        long first = firstMissing(generator);
+        if (first == generator.count()) {
+            log.info("All {} employees of generator seed {} already present, skipping",
+                    generator.count(), settings.getSeed());
+            return 0;
+        }
+
+        log.info("Generating employees {} to {}, seed {}, span of control {}",
+                first, generator.count(), settings.getSeed(), settings.getSpanOfControl());
+        long start = System.nanoTime();
+        List<Employee> batch = new ArrayList<>(batchSize);
+        for (long index = first; index < generator.count(); index++) {
+            batch.add(generator.employee(index));
+            if (batch.size() == batchSize || index == generator.count() - 1) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT, batch, batch.size(),
+                        EmployeeDataGeneratorRunner::bind));
+                batch.clear();
+                long done = index + 1;
+                if ((done - first) % (batchSize * 100L) == 0 || done == generator.count()) {
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    log.info("Generated {} of {} employees ({} rows/s)",
+                            done, generator.count(), Math.round((done - first) / Math.max(seconds, 1e-3)));
+                }
+            }
+        }
+        return generator.count() - first;
+    }
+
+    /**
+     * Binary search for the end of the prefix already in the table, one lookup by id per step.
+     *
+     * @return index of the first row not yet inserted, {@code count} when all are present
+     */
+    long firstMissing(EmployeeDataGenerator generator) {
+        long low = 0;
+        long high = generator.count();
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (exists(generator.id(mid))) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean exists(String id) {
+        Integer found = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees WHERE id = ?", Integer.class, id);
+        return found != null && found > 0;
+    }
+
+    private static void bind(PreparedStatement ps, Employee employee) throws SQLException {
+        ps.setString(1, employee.getId());
+        ps.setString(2, employee.getEmail());
+        ps.setString(3, employee.getPassword());
+        ps.setString(4, employee.getFullName());
+        ps.setString(5, employee.getPhoneNumber());
+        ps.setDate(6, Date.valueOf(employee.getDob()));
+        ps.setBoolean(7, employee.getIsActive());
+        ps.setString(8, employee.getDesignation());
+        if (employee.getManagerId() == null) {
+            ps.setNull(9, Types.VARCHAR);
+        } else {
+            ps.setString(9, employee.getManagerId());
+        }
+        ps.setString(10, employee.getAddress());
+        ps.setTimestamp(11, Timestamp.valueOf(employee.getCreatedAt()));
+        ps.setTimestamp(12, Timestamp.valueOf(employee.getUpdatedAt()));
+        ps.setString(13, employee.getCreatedBy());
+        ps.setString(14, employee.getUpdatedBy());
+        ps.setLong(15, employee.getVersion());
+    }
+}
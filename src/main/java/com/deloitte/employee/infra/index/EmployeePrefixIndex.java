@@ -0,0 +1,178 @@
+package com.deloitte.employee.infra.index;
+
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.enums.EmployeeSuggestField;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.repository.IEmployeeSuggestionIndex;
+import com.deloitte.employee.domain.valueobject.Suggestion;
+import com.deloitte.employee.infra.invalidation.EmployeeInvalidation;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted in-memory prefix index over {@code fullName} and {@code email}.
+ * <p>
+ * Each field is a skip list keyed by {@code lower(value) + '\0' + id}, so a prefix lookup is a
+ * lock-free range scan of the sub map starting at the prefix. Writers keep it current from
+ * {@link EmployeeChangedEvent} once the write has committed; rows written on other nodes are
+ * read back when their id arrives on the {@link InvalidationBus}.
+ * </p>
+ */
+@Slf4j
+@Component
+class EmployeePrefixIndex implements IEmployeeSuggestionIndex {
+
+    private static final char SEPARATOR = '\0';
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<EmployeeSuggestField, ConcurrentSkipListMap<String, Suggestion>> entries = newEntries();
+    // id -> field -> key, kept to drop the previous key on update/delete
+    private final Map<String, Map<EmployeeSuggestField, String>> keysById = new ConcurrentHashMap<>();
+
+    EmployeePrefixIndex(JdbcTemplate jdbcTemplate, InvalidationBus invalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long started = System.currentTimeMillis();
+        Set<String> seen = reindexAll();
+        log.info("Prefix index built: {} employees in {} ms", seen.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * @return ids of the rows read
+     */
+    private Set<String> reindexAll() {
+        Set<String> seen = new HashSet<>();
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement("SELECT id, full_name, email FROM employees");
+                    ps.setFetchSize(1000);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    put(rs.getString("id"), valuesOf(rs));
+                    seen.add(rs.getString("id"));
+                }
+        );
+        return seen;
+    }
+
+    /**
+     * Same approach as the trigram index: reload the row, or rescan the table in place when
+     * the bus may have missed writes, dropping only rows that predate the scan and are gone.
+     */
+    void onRemoteInvalidation(EmployeeInvalidation invalidation) {
+        if (invalidation.isEverything()) {
+            Set<String> before = Set.copyOf(keysById.keySet());
+            Set<String> seen = reindexAll();
+            before.stream().filter(id -> !seen.contains(id)).forEach(this::remove);
+            return;
+        }
+
+        List<Map<EmployeeSuggestField, String>> rows = jdbcTemplate.query(
+                "SELECT full_name, email FROM employees WHERE id = ?",
+                (rs, rowNum) -> valuesOf(rs),
+                invalidation.employeeId());
+        if (rows.isEmpty()) {
+            remove(invalidation.employeeId());
+        } else {
+            put(invalidation.employeeId(), rows.getFirst());
+        }
+    }
+
+    private static Map<EmployeeSuggestField, String> valuesOf(ResultSet rs) throws SQLException {
+        Map<EmployeeSuggestField, String> values = new EnumMap<>(EmployeeSuggestField.class);
+        values.put(EmployeeSuggestField.FULL_NAME, rs.getString("full_name"));
+        values.put(EmployeeSuggestField.EMAIL, rs.getString("email"));
+        return values;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> put(event.id(), valuesOf(event.employee()));
+            case DELETED -> remove(event.id());
+        }
+    }
+
+    @Override
+    public Either<OperationFailure, List<Suggestion>> suggest(EmployeeSuggestField field, String prefix, int limit) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        var range = entries.get(field).subMap(from, true, from + Character.MAX_VALUE, false);
+
+        List<Suggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (Suggestion suggestion : range.values()) {
+            if (suggestions.size() == limit) break;
+            suggestions.add(suggestion);
+        }
+        return Either.right(suggestions);
+    }
+
+    synchronized void put(String id, Map<EmployeeSuggestField, String> values) {
+        Map<EmployeeSuggestField, String> previous = keysById.getOrDefault(id, Map.of());
+        Map<EmployeeSuggestField, String> current = new EnumMap<>(EmployeeSuggestField.class);
+
+        // add the new key before dropping the old one so readers never miss the row
+        values.forEach((field, value) -> {
+            if (value == null) return;
+            String key = key(value, id);
+            entries.get(field).put(key, new Suggestion(id, value));
+            current.put(field, key);
+        });
+        keysById.put(id, current);
+
+        previous.forEach((field, key) -> {
+            if (!key.equals(current.get(field))) {
+                entries.get(field).remove(key);
+            }
+        });
+    }
+
+    synchronized void remove(String id) {
+        Map<EmployeeSuggestField, String> previous = keysById.remove(id);
+        if (previous != null) {
+            previous.forEach((field, key) -> entries.get(field).remove(key));
+        }
+    }
+
+    private static String key(String value, String id) {
+        return value.toLowerCase(Locale.ROOT) + SEPARATOR + id;
+    }
+
+    private static Map<EmployeeSuggestField, ConcurrentSkipListMap<String, Suggestion>> newEntries() {
+        Map<EmployeeSuggestField, ConcurrentSkipListMap<String, Suggestion>> entries = new EnumMap<>(EmployeeSuggestField.class);
+        for (EmployeeSuggestField field : EmployeeSuggestField.values()) {
+            entries.put(field, new ConcurrentSkipListMap<>());
+        }
+        return entries;
+    }
+
+    private static Map<EmployeeSuggestField, String> valuesOf(Employee employee) {
+        Map<EmployeeSuggestField, String> values = new EnumMap<>(EmployeeSuggestField.class);
+        values.put(EmployeeSuggestField.FULL_NAME, employee.getFullName());
+        values.put(EmployeeSuggestField.EMAIL, employee.getEmail());
+        return values;
+    }
+}
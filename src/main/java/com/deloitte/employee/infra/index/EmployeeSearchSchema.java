@@ -0,0 +1,61 @@
+package com.deloitte.employee.infra.index;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL search structures that JPA mappings cannot declare, installed once Hibernate has
+ * created the schema:
+ * <ul>
+ *     <li>the generated {@code search_vector} full-text column and its GIN index; the database
+ *     keeps it in sync on every insert and update</li>
+ *     <li>{@code text_pattern_ops} indexes, which serve {@code LIKE 'prefix%'} whatever the
+ *     collation of the database</li>
+ * </ul>
+ * Other databases are left untouched: full text falls back to LIKE and plain B-tree indexes
+ * already serve prefix matches there.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchSchema {
+
+    private static final List<String> PREFIX_COLUMNS = List.of("email", "full_name", "designation", "phone_number");
+
+    private final JdbcTemplate jdbcTemplate;
+    // injected so that this runs after hbm2ddl
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void install() {
+        if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        jdbcTemplate.execute("""
+                ALTER TABLE employees ADD COLUMN IF NOT EXISTS search_vector tsvector
+                GENERATED ALWAYS AS (
+                    setweight(to_tsvector('simple', coalesce(full_name, '')), 'A') ||
+                    setweight(to_tsvector('simple', coalesce(email, '')), 'B') ||
+                    setweight(to_tsvector('simple', coalesce(designation, '')), 'C') ||
+                    setweight(to_tsvector('simple', coalesce(address, '')), 'D')
+                ) STORED
+                """);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_employees_search_vector ON employees USING GIN (search_vector)");
+        for (String column : PREFIX_COLUMNS) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_employees_" + column + "_pattern ON employees ("
+                    + column + " text_pattern_ops)");
+        }
+        log.info("Search columns and indexes installed");
+    }
+}
@@ -0,0 +1,249 @@
+package com.deloitte.employee.infra.index;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.infra.invalidation.EmployeeInvalidation;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import io.vavr.control.Option;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process trigram inverted index over the searchable text columns.
+ * <p>
+ * Resolves case-insensitive "contains" criteria to a candidate id set: every id whose value
+ * holds all trigrams of the search term. Candidates are a superset of the real matches, so the
+ * DAO still applies the LIKE predicate, but only to rows fetched by primary key.
+ * </p>
+ * <p>
+ * Local writes are applied from {@link EmployeeChangedEvent}. Writes taken by other nodes arrive
+ * on the {@link InvalidationBus} as ids only, so those rows are read back from the database; a
+ * candidate set that missed them would silently drop matches from search results.
+ * </p>
+ */
+@Slf4j
+@Component
+public class EmployeeTrigramIndex {
+
+    private static final int GRAM = 3;
+
+    private static final Map<String, String> INDEXED_COLUMNS = Map.of(
+            "fullName", "full_name",
+            "email", "email",
+            "designation", "designation",
+            "address", "address",
+            "phoneNumber", "phone_number"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeManagementProperties properties;
+
+    // field -> trigram -> ids
+    private final Map<String, Map<String, Set<String>>> postings = new ConcurrentHashMap<>();
+    // id -> field -> lower-cased value, kept to unindex the previous value on update/delete
+    private final Map<String, Map<String, String>> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    // subscribed before the caching DAO, which depends on this index through the DAO, so a
+    // remote write reaches the index before the list cache retires its pages
+    public EmployeeTrigramIndex(JdbcTemplate jdbcTemplate,
+                                EmployeeManagementProperties properties,
+                                InvalidationBus invalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        invalidationBus.subscribe(this::onRemoteInvalidation);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!properties.getSearchIndex().isEnabled()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        Set<String> seen = reindexAll();
+        ready = true;
+        log.info("Trigram index built: {} employees in {} ms", seen.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Puts every row of the table into the index.
+     *
+     * @return ids of the rows read
+     */
+    private Set<String> reindexAll() {
+        Set<String> seen = new HashSet<>();
+        String sql = "SELECT id, " + String.join(", ", INDEXED_COLUMNS.values()) + " FROM employees";
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setFetchSize(1000);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> {
+                    put(rs.getString("id"), valuesOf(rs));
+                    seen.add(rs.getString("id"));
+                }
+        );
+        return seen;
+    }
+
+    private static Map<String, String> valuesOf(ResultSet rs) throws SQLException {
+        Map<String, String> values = new HashMap<>();
+        for (var column : INDEXED_COLUMNS.entrySet()) {
+            values.put(column.getKey(), rs.getString(column.getValue()));
+        }
+        return values;
+    }
+
+    /**
+     * Reads the written row back, or the whole table when the bus may have missed writes. The
+     * index stays in use meanwhile: rows are replaced in place and only rows that existed before
+     * the scan and were not found by it are dropped, so a concurrent local create survives.
+     */
+    void onRemoteInvalidation(EmployeeInvalidation invalidation) {
+        if (!ready || !properties.getSearchIndex().isEnabled()) {
+            return;
+        }
+
+        if (invalidation.isEverything()) {
+            Set<String> before = Set.copyOf(documents.keySet());
+            Set<String> seen = reindexAll();
+            before.stream().filter(id -> !seen.contains(id)).forEach(this::remove);
+            return;
+        }
+
+        String sql = "SELECT id, " + String.join(", ", INDEXED_COLUMNS.values()) + " FROM employees WHERE id = ?";
+        List<Map<String, String>> rows = jdbcTemplate.query(sql, (rs, rowNum) -> valuesOf(rs), invalidation.employeeId());
+        if (rows.isEmpty()) {
+            remove(invalidation.employeeId());
+        } else {
+            put(invalidation.employeeId(), rows.getFirst());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!properties.getSearchIndex().isEnabled()) {
+            return;
+        }
+
+        switch (event.type()) {
+            case CREATED, UPDATED -> put(event.id(), valuesOf(event.employee()));
+            case DELETED -> remove(event.id());
+        }
+    }
+
+    /**
+     * @return candidate ids for rows matching every criterion, or none when the index cannot
+     * answer (disabled, still building, a field is not indexed or a term is shorter than a trigram)
+     */
+    public Option<Set<String>> candidates(Map<String, String> criteria) {
+        if (!ready || criteria.isEmpty()) {
+            return Option.none();
+        }
+
+        List<Set<String>> lists = new ArrayList<>();
+        for (var criterion : criteria.entrySet()) {
+            var term = criterion.getValue().toLowerCase(Locale.ROOT);
+            if (!INDEXED_COLUMNS.containsKey(criterion.getKey()) || term.length() < GRAM) {
+                return Option.none();
+            }
+            var byGram = postings.get(criterion.getKey());
+            for (String gram : trigrams(term)) {
+                var ids = byGram == null ? null : byGram.get(gram);
+                if (ids == null || ids.isEmpty()) {
+                    return Option.some(Set.of());
+                }
+                lists.add(ids);
+            }
+        }
+
+        // intersect starting from the rarest trigram so the working set only shrinks
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<String> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return Option.some(result);
+    }
+
+    synchronized void put(String id, Map<String, String> values) {
+        Map<String, String> previous = documents.get(id);
+        Map<String, String> current = new HashMap<>();
+        values.forEach((field, value) -> {
+            if (value != null) current.put(field, value.toLowerCase(Locale.ROOT));
+        });
+
+        // index the new value before dropping the old one so readers never miss the row
+        current.forEach((field, value) -> {
+            var byGram = postings.computeIfAbsent(field, f -> new ConcurrentHashMap<>());
+            for (String gram : trigrams(value)) {
+                byGram.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        });
+        documents.put(id, current);
+
+        if (previous != null) {
+            previous.forEach((field, value) -> {
+                Set<String> stale = trigrams(value);
+                stale.removeAll(trigrams(current.getOrDefault(field, "")));
+                unindex(id, field, stale);
+            });
+        }
+    }
+
+    synchronized void remove(String id) {
+        Map<String, String> previous = documents.remove(id);
+        if (previous != null) {
+            previous.forEach((field, value) -> unindex(id, field, trigrams(value)));
+        }
+    }
+
+    private void unindex(String id, String field, Set<String> grams) {
+        var byGram = postings.get(field);
+        if (byGram == null) {
+            return;
+        }
+        for (String gram : grams) {
+            byGram.computeIfPresent(gram, (g, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static Map<String, String> valuesOf(Employee employee) {
+        Map<String, String> values = new HashMap<>();
+        values.put("fullName", employee.getFullName());
+        values.put("email", employee.getEmail());
+        values.put("designation", employee.getDesignation());
+        values.put("address", employee.getAddress());
+        values.put("phoneNumber", employee.getPhoneNumber());
+        return values;
+    }
+}
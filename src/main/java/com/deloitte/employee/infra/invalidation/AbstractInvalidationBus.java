@@ -0,0 +1,65 @@
+package com.deloitte.employee.infra.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Node identity, subscriber fan-out and the lag metric shared by the bus implementations.
+ */
+@Slf4j
+abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    protected final String nodeId = UUID.randomUUID().toString();
+
+    private final List<Consumer<EmployeeInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final Timer lag;
+
+    protected AbstractInvalidationBus(String transport, MeterRegistry registry) {
+        this.lag = Timer.builder("employee.invalidation.lag")
+                .description("Time from a write being published on one node to it being applied on another")
+                .tag("bus", transport)
+                .register(registry);
+    }
+
+    @Override
+    public void subscribe(Consumer<EmployeeInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param employeeId null for everything
+     */
+    protected EmployeeInvalidation invalidation(String employeeId) {
+        return new EmployeeInvalidation(nodeId, employeeId, Instant.now());
+    }
+
+    /**
+     * Hands an invalidation received from the transport to the subscribers, unless this node
+     * published it.
+     */
+    protected void deliver(EmployeeInvalidation invalidation) {
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+        if (!invalidation.isEverything()) {
+            Duration elapsed = Duration.between(invalidation.publishedAt(), Instant.now());
+            // clocks of different nodes may disagree slightly
+            lag.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+        }
+        for (Consumer<EmployeeInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener failed for {}", invalidation, e);
+            }
+        }
+    }
+}
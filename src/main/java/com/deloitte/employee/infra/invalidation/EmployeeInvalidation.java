@@ -0,0 +1,20 @@
+package com.deloitte.employee.infra.invalidation;
+
+import java.time.Instant;
+
+/**
+ * @param nodeId      node that took the write
+ * @param employeeId  employee written; null when everything must be dropped, e.g. after the
+ *                    bus lost its connection and may have missed invalidations
+ * @param publishedAt when the write was published, to measure invalidation lag
+ */
+public record EmployeeInvalidation(String nodeId, String employeeId, Instant publishedAt) {
+
+    public static EmployeeInvalidation everything() {
+        return new EmployeeInvalidation(null, null, Instant.now());
+    }
+
+    public boolean isEverything() {
+        return employeeId == null;
+    }
+}
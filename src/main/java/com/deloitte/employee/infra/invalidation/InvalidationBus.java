@@ -0,0 +1,27 @@
+package com.deloitte.employee.infra.invalidation;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Carries employee cache invalidations between the nodes of a deployment.
+ * <p>
+ * A node publishes the ids of the employees a transaction wrote once it has committed; every
+ * other node receives them and drops whatever it cached for those ids. Nodes never receive their
+ * own invalidations, they have already applied them locally.
+ * </p>
+ */
+public interface InvalidationBus {
+
+    /**
+     * Publishes the ids written by one commit together, as few messages as the transport allows.
+     */
+    void publish(Collection<String> employeeIds);
+
+    /**
+     * Tells the other nodes to drop everything, for commits that wrote too many rows to name.
+     */
+    void publishEverything();
+
+    void subscribe(Consumer<EmployeeInvalidation> listener);
+}
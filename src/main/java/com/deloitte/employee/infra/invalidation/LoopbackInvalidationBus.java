@@ -0,0 +1,57 @@
+package com.deloitte.employee.infra.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-JVM stand-in for a shared bus: every instance in the JVM is a node and receives what the
+ * others publish, synchronously. Several application contexts started in one test therefore
+ * behave like replicas behind a load balancer. On a single node it only delivers to itself,
+ * which is filtered out, so it is also the no-op choice outside tests.
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "application.employee-management.cache.invalidation",
+        name = "bus",
+        havingValue = "loopback",
+        matchIfMissing = true
+)
+public class LoopbackInvalidationBus extends AbstractInvalidationBus implements AutoCloseable {
+
+    private static final List<LoopbackInvalidationBus> NODES = new CopyOnWriteArrayList<>();
+
+    public LoopbackInvalidationBus(ObjectProvider<MeterRegistry> meterRegistry) {
+        super("loopback", meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        NODES.add(this);
+    }
+
+    @Override
+    public void publish(Collection<String> employeeIds) {
+        employeeIds.forEach(employeeId -> send(invalidation(employeeId)));
+    }
+
+    @Override
+    public void publishEverything() {
+        send(invalidation(null));
+    }
+
+    private static void send(EmployeeInvalidation invalidation) {
+        for (LoopbackInvalidationBus node : NODES) {
+            node.deliver(invalidation);
+        }
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        NODES.remove(this);
+    }
+}
@@ -0,0 +1,193 @@
+package com.deloitte.employee.infra.invalidation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Invalidation bus over Postgres LISTEN/NOTIFY.
+ * <p>
+ * Publishing is a {@code pg_notify} on the shared pool, one per commit: its ids share a payload
+ * up to Postgres' payload limit. Receiving holds one pooled connection
+ * that LISTENs on {@value #CHANNEL} and is polled by a daemon thread. Notifications sent while
+ * that connection is down are lost, so after every reconnect subscribers are told to drop
+ * everything.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        prefix = "application.employee-management.cache.invalidation",
+        name = "bus",
+        havingValue = "postgres"
+)
+class PostgresInvalidationBus extends AbstractInvalidationBus {
+
+    static final String CHANNEL = "employee_invalidation";
+
+    private static final int POLL_MILLIS = 1_000;
+    private static final long RETRY_MILLIS = 5_000;
+    // Postgres rejects payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7_900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running;
+    private Thread listener;
+
+    PostgresInvalidationBus(@Qualifier("employeeManagementJdbcTemplate") JdbcTemplate jdbcTemplate,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        super("postgres", meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listener = Thread.ofPlatform()
+                .daemon()
+                .name("employee-invalidation-listener")
+                .start(this::listen);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(POLL_MILLIS * 2L);
+    }
+
+    @Override
+    public void publish(Collection<String> employeeIds) {
+        payloads(nodeId, Instant.now(), employeeIds).forEach(this::notify);
+    }
+
+    @Override
+    public void publishEverything() {
+        notify(header(nodeId, Instant.now()));
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query(
+                "SELECT pg_notify(?, ?)",
+                (RowCallbackHandler) rs -> {
+                },
+                CHANNEL,
+                payload
+        );
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (reconnecting) {
+                    deliver(EmployeeInvalidation.everything());
+                }
+                reconnecting = true;
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        parse(notification.getParameter()).forEach(this::deliver);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener lost its connection, retrying in {} ms", RETRY_MILLIS, e);
+                try {
+                    Thread.sleep(RETRY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code <node id> <published at, epoch ms> <employee ids>}, the ids separated by line breaks
+     * and none meaning everything; the ids go last as the only part not generated here. Ids that
+     * do not fit into one payload continue in the next.
+     */
+    static List<String> payloads(String nodeId, Instant publishedAt, Collection<String> employeeIds) {
+        String header = header(nodeId, publishedAt);
+        int headerBytes = utf8Length(header);
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(header);
+        int bytes = headerBytes;
+        for (String employeeId : employeeIds) {
+            // counts the separator even for the first id, which is a byte of slack
+            int length = utf8Length(employeeId) + 1;
+            if (payload.length() > header.length() && bytes + length > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(header.length());
+                bytes = headerBytes;
+            }
+            if (payload.length() > header.length()) {
+                payload.append('\n');
+            }
+            payload.append(employeeId);
+            bytes += length;
+        }
+        if (payload.length() > header.length()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    private static String header(String nodeId, Instant publishedAt) {
+        return nodeId + " " + publishedAt.toEpochMilli() + " ";
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    static List<EmployeeInvalidation> parse(String payload) {
+        String[] parts = payload == null ? new String[0] : payload.split(" ", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed invalidation {}", payload);
+            return List.of();
+        }
+        try {
+            Instant publishedAt = Instant.ofEpochMilli(Long.parseLong(parts[1]));
+            if (parts[2].isEmpty()) {
+                return List.of(new EmployeeInvalidation(parts[0], null, publishedAt));
+            }
+            return Arrays.stream(parts[2].split("\n"))
+                    .map(employeeId -> new EmployeeInvalidation(parts[0], employeeId, publishedAt))
+                    .toList();
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed invalidation {}", payload);
+            return List.of();
+        }
+    }
+}
@@ -5,12 +5,17 @@ import com.deloitte.employee.domain.entities.ErrorDetail;
 import com.deloitte.employee.domain.failure.ValidationFailure;
 import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
 import com.deloitte.employee.infra.repositories.EmployeeJPARepository;
+import com.deloitte.employee.infra.repositories.EmployeeRow;
 import io.vavr.control.Either;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
@@ -23,11 +28,19 @@ public class EmployeeJPAMapper {
             return null;
         }
 
+        // FK-only reference, no SELECT; the foreign key rejects a manager that does not exist
         EmployeeJPAEntity managerEntity = null;
         if (employee.getManagerId() != null) {
-            managerEntity = employeeJPARepository.findById(employee.getManagerId()).orElse(null);
+            managerEntity = employeeJPARepository.getReferenceById(employee.getManagerId());
         }
+        return toEntity(employee, managerEntity);
+    }
 
+    /**
+     * Maps with a manager the caller already resolved, e.g. a reference or an entity persisted
+     * in the same transaction; {@code employee.managerId} is ignored.
+     */
+    public EmployeeJPAEntity toEntity(Employee employee, EmployeeJPAEntity managerEntity) {
         return EmployeeJPAEntity.builder()
                 .id(employee.getId())
                 .email(employee.getEmail())
@@ -35,7 +48,8 @@ public class EmployeeJPAMapper {
                 .fullName(employee.getFullName())
                 .phoneNumber(employee.getPhoneNumber())
                 .dob(employee.getDob())
-                .isActive(employee.getIsActive())
+                // the flag is optional on input; an omitted one takes the column's default
+                .isActive(employee.getIsActive() == null || employee.getIsActive())
                 .designation(employee.getDesignation())
                 .manager(managerEntity)
                 .address(employee.getAddress())
@@ -66,42 +80,49 @@ public class EmployeeJPAMapper {
                 .updatedAt(entity.getUpdatedAt())
                 .createdBy(entity.getCreatedBy())
                 .updatedBy(entity.getUpdatedBy())
+                .version(entity.getVersion())
                 .build();
     }
 
+    /**
+     * Maps an {@link EmployeeRow} projection straight to the domain, without an entity in between.
+     */
+    public Employee toDomain(Tuple row) {
+        if (row == null) {
+            return null;
+        }
+
+        return Employee.builder()
+                .id(row.get(EmployeeRow.ID, String.class))
+                .email(row.get(EmployeeRow.EMAIL, String.class))
+                .fullName(row.get(EmployeeRow.FULL_NAME, String.class))
+                .phoneNumber(row.get(EmployeeRow.PHONE_NUMBER, String.class))
+                .dob(row.get(EmployeeRow.DOB, LocalDate.class))
+                .isActive(row.get(EmployeeRow.IS_ACTIVE, Boolean.class))
+                .designation(row.get(EmployeeRow.DESIGNATION, String.class))
+                .managerId(row.get(EmployeeRow.MANAGER_ID, String.class))
+                .address(row.get(EmployeeRow.ADDRESS, String.class))
+                .createdAt(row.get(EmployeeRow.CREATED_AT, LocalDateTime.class))
+                .updatedAt(row.get(EmployeeRow.UPDATED_AT, LocalDateTime.class))
+                .version(row.get(EmployeeRow.VERSION, Long.class))
+                .build();
+    }
+
+    /**
+     * Applies the non-null fields of {@code employee}. Only values that differ are set, so a patch
+     * that changes nothing leaves the entity clean and no UPDATE is issued. A new manager is set
+     * as an FK-only reference; the foreign key rejects one that does not exist when flushed.
+     */
     public Either<ValidationFailure, EmployeeJPAEntity> merge(EmployeeJPAEntity employeeEntity, Employee employee) {
         if (employeeEntity == null || employee == null) {
             return Either.right(employeeEntity);
         }
 
-        // ============ PATCH SIMPLE FIELDS ============
-        if (employee.getEmail() != null) employeeEntity.setEmail(employee.getEmail());
-        if (employee.getPassword() != null) employeeEntity.setPassword(employee.getPassword());
-        if (employee.getFullName() != null) employeeEntity.setFullName(employee.getFullName());
-        if (employee.getPhoneNumber() != null) employeeEntity.setPhoneNumber(employee.getPhoneNumber());
-        if (employee.getDob() != null) employeeEntity.setDob(employee.getDob());
-        if (employee.getDesignation() != null) employeeEntity.setDesignation(employee.getDesignation());
-        if (employee.getAddress() != null) employeeEntity.setAddress(employee.getAddress());
-        if (employee.getUpdatedBy() != null) employeeEntity.setUpdatedBy(employee.getUpdatedBy());
-        if (employee.getUpdatedAt() != null) employeeEntity.setUpdatedAt(employee.getUpdatedAt());
-        if (employee.getIsActive() != null) employeeEntity.setActive(employee.getIsActive());
-
-        // ============ MANAGER LOGIC ============
+        // ============ MANAGER CHECKS ============
 
         String incomingManagerId = employee.getManagerId();
 
-        // CASE 1: No managerId provided → do nothing
-        if (incomingManagerId == null) {
-            return Either.right(employeeEntity);
-        }
-
-        // CASE 2: explicit removal: "NULL" (string literal)
-        if ("NULL".equalsIgnoreCase(incomingManagerId)) {
-            employeeEntity.setManager(null);
-            return Either.right(employeeEntity);
-        }
-
-        // CASE 3: Prevent self-manager
+        // Prevent self-manager, before anything is changed
         if (employeeEntity.getId().equals(incomingManagerId)) {
             return Either.left(new ValidationFailure(
                     List.of(ErrorDetail.builder()
@@ -112,25 +133,51 @@ public class EmployeeJPAMapper {
             ));
         }
 
-        // CASE 4: Validate manager existence
-        EmployeeJPAEntity managerEntity =
-                employeeJPARepository.findById(incomingManagerId).orElse(null);
+        // ============ PATCH SIMPLE FIELDS ============
+        boolean changed = patch(employee.getEmail(), employeeEntity.getEmail(), employeeEntity::setEmail)
+                | patch(employee.getPassword(), employeeEntity.getPassword(), employeeEntity::setPassword)
+                | patch(employee.getFullName(), employeeEntity.getFullName(), employeeEntity::setFullName)
+                | patch(employee.getPhoneNumber(), employeeEntity.getPhoneNumber(), employeeEntity::setPhoneNumber)
+                | patch(employee.getDob(), employeeEntity.getDob(), employeeEntity::setDob)
+                | patch(employee.getDesignation(), employeeEntity.getDesignation(), employeeEntity::setDesignation)
+                | patch(employee.getAddress(), employeeEntity.getAddress(), employeeEntity::setAddress)
+                | patch(employee.getIsActive(), employeeEntity.isActive(), employeeEntity::setActive);
 
-        if (managerEntity == null) {
-            return Either.left(new ValidationFailure(
-                    List.of(ErrorDetail.builder()
-                            .field("managerId")
-                            .message("Manager not found")
-                            .code("ERR_MANAGER_NOT_FOUND")
-                            .build())
-            ));
+        // ============ MANAGER LOGIC ============
+
+        // id read from the proxy/FK, which does not load the current manager
+        String currentManagerId = employeeEntity.getManager() != null ? employeeEntity.getManager().getId() : null;
+
+        if ("NULL".equalsIgnoreCase(incomingManagerId)) {
+            // explicit removal: "NULL" (string literal)
+            changed |= currentManagerId != null;
+            employeeEntity.setManager(null);
+        } else if (incomingManagerId != null && !incomingManagerId.equals(currentManagerId)) {
+            employeeEntity.setManager(employeeJPARepository.getReferenceById(incomingManagerId));
+            changed = true;
         }
 
-        // CASE 5: Set new manager
-        employeeEntity.setManager(managerEntity);
+        // Audit fields only move along with a real change
+        if (changed) {
+            patch(employee.getUpdatedBy(), employeeEntity.getUpdatedBy(), employeeEntity::setUpdatedBy);
+            patch(employee.getUpdatedAt(), employeeEntity.getUpdatedAt(), employeeEntity::setUpdatedAt);
+        }
 
         return Either.right(employeeEntity);
     }
 
+    /**
+     * Sets {@code value} unless it is null or equal to {@code current}.
+     *
+     * @return whether the value was set
+     */
+    private static <T> boolean patch(T value, T current, Consumer<T> setter) {
+        if (value == null || value.equals(current)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
 
 }
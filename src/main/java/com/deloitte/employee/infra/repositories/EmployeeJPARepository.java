@@ -3,9 +3,32 @@ package com.deloitte.employee.infra.repositories;
 import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
-public interface EmployeeJPARepository extends JpaRepository<EmployeeJPAEntity, String>, JpaSpecificationExecutor<EmployeeJPAEntity> {
+public interface EmployeeJPARepository extends JpaRepository<EmployeeJPAEntity, String>,
+        JpaSpecificationExecutor<EmployeeJPAEntity>,
+        EmployeeJPARepositoryCustom {
     boolean existsByEmail(String email);
+
+    @Query("SELECT e.email FROM EmployeeJPAEntity e WHERE e.email IN :emails")
+    List<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT e.id FROM EmployeeJPAEntity e WHERE e.id IN :ids")
+    List<String> findIdsIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Single {@code DELETE}, without loading the entity first as {@code deleteById} does.
+     *
+     * @return number of rows deleted, 0 if there was no such employee
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeJPAEntity e WHERE e.id = :id")
+    int deleteRowById(@Param("id") String id);
 }
@@ -0,0 +1,97 @@
+package com.deloitte.employee.infra.repositories;
+
+import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Query fragment for reads and writes that Spring Data's derived/specification methods cannot
+ * express.
+ */
+public interface EmployeeJPARepositoryCustom {
+
+    /**
+     * Runs a JPQL row query selecting the {@link EmployeeRow} aliases and returns at most
+     * {@code limit} projections that never enter the persistence context. No count query is issued.
+     */
+    List<Tuple> findRows(String jpql, Map<String, Object> parameters, long offset, int limit);
+
+    /**
+     * Runs the same row query as {@link #findRows} without a limit, reading it through a
+     * forward-only cursor that fetches {@code fetchSize} rows at a time. Rows are projections, so
+     * nothing accumulates in the persistence context however many are read. Must be called and
+     * consumed inside a transaction, and closed.
+     */
+    Stream<Tuple> streamRows(String jpql, Map<String, Object> parameters, int fetchSize);
+
+    /**
+     * Runs a JPQL {@code SELECT COUNT(...)} query.
+     */
+    long countRows(String jpql, Map<String, Object> parameters);
+
+    /**
+     * Projection row of a single employee.
+     */
+    Optional<Tuple> findRowById(String id);
+
+    /**
+     * Projection row of the employee with this email.
+     */
+    Optional<Tuple> findRowByEmail(String email);
+
+    /**
+     * Projection rows for the given ids, in no particular order; unknown ids are skipped.
+     */
+    List<Tuple> findRowsByIds(Collection<String> ids);
+
+    /**
+     * Ids of the rows matching every term, most relevant first. On PostgreSQL terms are word
+     * prefixes matched against the weighted {@code search_vector} column; elsewhere they are
+     * substrings of the searchable columns, ranked by the weight of the column they hit.
+     *
+     * @param terms lower-cased letters/digits only
+     */
+    List<String> findIdsByText(List<String> terms, long offset, int limit);
+
+    /**
+     * Number of rows {@link #findIdsByText} can return for {@code terms}.
+     */
+    long countByText(List<String> terms);
+
+    /**
+     * Row count of the whole table taken from planner statistics where the database keeps them
+     * (PostgreSQL {@code pg_class.reltuples}); falls back to an exact count otherwise.
+     */
+    long estimateCount();
+
+    /**
+     * Inserts the employee, or replaces the employee that has its email, in one statement:
+     * {@code INSERT ... ON CONFLICT (email) DO UPDATE} on PostgreSQL, {@code MERGE} elsewhere.
+     * The entity is not persisted; its manager is only read for its id, {@code updatedAt} and
+     * {@code updatedBy} stamp the write. An existing row whose values already match is not
+     * written.
+     *
+     * @return the {@link EmployeeRow} projection of the written row, with version 0 if it was
+     * inserted; empty if nothing was written
+     */
+    Optional<Tuple> upsertByEmail(EmployeeJPAEntity entity);
+
+    /**
+     * Persists a new employee and flushes, so the INSERT is the only statement issued and
+     * constraint violations surface here. Unlike {@code save}, never merges, which would SELECT
+     * first.
+     */
+    void insert(EmployeeJPAEntity entity);
+
+    /**
+     * Flushes pending changes so that constraint violations surface here. After a failed flush
+     * the persistence context is cleared: its state is undefined and must not be flushed again
+     * before the transaction rolls back.
+     */
+    void flushOrClear();
+}
@@ -0,0 +1,355 @@
+package com.deloitte.employee.infra.repositories;
+
+import com.deloitte.employee.infra.entities.EmployeeJPAEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class EmployeeJPARepositoryCustomImpl implements EmployeeJPARepositoryCustom {
+
+    // searchable columns by relevance weight, the LIKE fallback's counterpart of setweight A-D
+    private static final Map<String, Integer> TEXT_WEIGHTS = new LinkedHashMap<>();
+
+    static {
+        TEXT_WEIGHTS.put("full_name", 8);
+        TEXT_WEIGHTS.put("email", 4);
+        TEXT_WEIGHTS.put("designation", 2);
+        TEXT_WEIGHTS.put("address", 1);
+    }
+
+    private static final String UPSERT_COLUMNS = "id, email, password, full_name, phone_number, dob, is_active, "
+            + "designation, manager_id, address, created_at, updated_at, created_by, updated_by, version";
+
+    // columns a PUT replaces; a row whose values all match is not written at all
+    private static final String[] CHANGEABLE_COLUMNS = {
+            "password", "full_name", "phone_number", "dob", "is_active", "designation", "manager_id", "address"
+    };
+
+    // quoted, so both PostgreSQL and H2 keep the case of the EmployeeRow aliases
+    private static final String RETURNED_COLUMNS = String.join(", ",
+            "id AS \"" + EmployeeRow.ID + "\"",
+            "email AS \"" + EmployeeRow.EMAIL + "\"",
+            "full_name AS \"" + EmployeeRow.FULL_NAME + "\"",
+            "phone_number AS \"" + EmployeeRow.PHONE_NUMBER + "\"",
+            "dob AS \"" + EmployeeRow.DOB + "\"",
+            "is_active AS \"" + EmployeeRow.IS_ACTIVE + "\"",
+            "designation AS \"" + EmployeeRow.DESIGNATION + "\"",
+            "manager_id AS \"" + EmployeeRow.MANAGER_ID + "\"",
+            "address AS \"" + EmployeeRow.ADDRESS + "\"",
+            "created_at AS \"" + EmployeeRow.CREATED_AT + "\"",
+            "updated_at AS \"" + EmployeeRow.UPDATED_AT + "\"",
+            "version AS \"" + EmployeeRow.VERSION + "\""
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findRows(String jpql, Map<String, Object> parameters, long offset, int limit) {
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query.setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Tuple> streamRows(String jpql, Map<String, Object> parameters, int fetchSize) {
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public long countRows(String jpql, Map<String, Object> parameters) {
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        parameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Optional<Tuple> findRowById(String id) {
+        return findRowBy("id", id);
+    }
+
+    @Override
+    public Optional<Tuple> findRowByEmail(String email) {
+        return findRowBy("email", email);
+    }
+
+    private Optional<Tuple> findRowBy(String attribute, String value) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<EmployeeJPAEntity> root = query.from(EmployeeJPAEntity.class);
+
+        query.multiselect(rowSelection(root))
+                .where(cb.equal(root.get(attribute), value));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Tuple> findRowsByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<EmployeeJPAEntity> root = query.from(EmployeeJPAEntity.class);
+
+        query.multiselect(rowSelection(root))
+                .where(root.get("id").in(ids));
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Tuple> upsertByEmail(EmployeeJPAEntity entity) {
+        String sql = isPostgres() ? """
+                INSERT INTO employees AS e (%s)
+                VALUES (:id, :email, :password, :fullName, :phoneNumber, :dob, :isActive, :designation,
+                        :managerId, :address, :now, :now, :actor, :actor, 0)
+                ON CONFLICT (email) DO UPDATE SET %s
+                WHERE (%s) IS DISTINCT FROM (%s)
+                RETURNING %s
+                """.formatted(
+                UPSERT_COLUMNS,
+                upsertAssignments("EXCLUDED", "e"),
+                columns("e", CHANGEABLE_COLUMNS),
+                columns("EXCLUDED", CHANGEABLE_COLUMNS),
+                RETURNED_COLUMNS
+        ) : """
+                SELECT %s FROM FINAL TABLE (
+                    MERGE INTO employees e
+                    USING (VALUES (CAST(:id AS VARCHAR), CAST(:email AS VARCHAR), CAST(:password AS VARCHAR),
+                                   CAST(:fullName AS VARCHAR), CAST(:phoneNumber AS VARCHAR), CAST(:dob AS DATE),
+                                   CAST(:isActive AS BOOLEAN), CAST(:designation AS VARCHAR),
+                                   CAST(:managerId AS VARCHAR), CAST(:address AS VARCHAR),
+                                   CAST(:now AS TIMESTAMP), CAST(:now AS TIMESTAMP),
+                                   CAST(:actor AS VARCHAR), CAST(:actor AS VARCHAR), 0)) s (%s)
+                    ON e.email = s.email
+                    WHEN MATCHED AND (%s) IS DISTINCT FROM (%s) THEN UPDATE SET %s
+                    WHEN NOT MATCHED THEN INSERT (%s) VALUES (%s)
+                )
+                """.formatted(
+                RETURNED_COLUMNS,
+                UPSERT_COLUMNS,
+                columns("e", CHANGEABLE_COLUMNS),
+                columns("s", CHANGEABLE_COLUMNS),
+                upsertAssignments("s", "e"),
+                UPSERT_COLUMNS,
+                columns("s", UPSERT_COLUMNS.split(", "))
+        );
+
+        NativeQuery<Tuple> query = entityManager.createNativeQuery(sql, Tuple.class).unwrap(NativeQuery.class);
+        // typed, so that NULLs are bound with the column's type
+        query.setParameter("id", entity.getId(), String.class)
+                .setParameter("email", entity.getEmail(), String.class)
+                .setParameter("password", entity.getPassword(), String.class)
+                .setParameter("fullName", entity.getFullName(), String.class)
+                .setParameter("phoneNumber", entity.getPhoneNumber(), String.class)
+                .setParameter("dob", entity.getDob(), LocalDate.class)
+                .setParameter("isActive", entity.isActive(), Boolean.class)
+                .setParameter("designation", entity.getDesignation(), String.class)
+                .setParameter("managerId", entity.getManager() != null ? entity.getManager().getId() : null, String.class)
+                .setParameter("address", entity.getAddress(), String.class)
+                .setParameter("now", entity.getUpdatedAt(), LocalDateTime.class)
+                .setParameter("actor", entity.getUpdatedBy(), String.class);
+        query.addScalar(EmployeeRow.ID, String.class)
+                .addScalar(EmployeeRow.EMAIL, String.class)
+                .addScalar(EmployeeRow.FULL_NAME, String.class)
+                .addScalar(EmployeeRow.PHONE_NUMBER, String.class)
+                .addScalar(EmployeeRow.DOB, LocalDate.class)
+                .addScalar(EmployeeRow.IS_ACTIVE, Boolean.class)
+                .addScalar(EmployeeRow.DESIGNATION, String.class)
+                .addScalar(EmployeeRow.MANAGER_ID, String.class)
+                .addScalar(EmployeeRow.ADDRESS, String.class)
+                .addScalar(EmployeeRow.CREATED_AT, LocalDateTime.class)
+                .addScalar(EmployeeRow.UPDATED_AT, LocalDateTime.class)
+                .addScalar(EmployeeRow.VERSION, Long.class);
+        return query.getResultStream().findFirst();
+    }
+
+    /**
+     * {@code SET} list of an upsert: every column a PUT replaces, the audit columns and the
+     * version, which is bumped as the entity's {@code @Version} would be.
+     */
+    private static String upsertAssignments(String source, String target) {
+        List<String> assignments = new ArrayList<>();
+        for (String column : CHANGEABLE_COLUMNS) {
+            assignments.add(column + " = " + source + "." + column);
+        }
+        assignments.add("updated_at = " + source + ".updated_at");
+        assignments.add("updated_by = " + source + ".updated_by");
+        assignments.add("version = " + target + ".version + 1");
+        return String.join(", ", assignments);
+    }
+
+    private static String columns(String alias, String... columns) {
+        List<String> qualified = new ArrayList<>();
+        for (String column : columns) {
+            qualified.add(alias + "." + column);
+        }
+        return String.join(", ", qualified);
+    }
+
+    @Override
+    public void insert(EmployeeJPAEntity entity) {
+        entityManager.persist(entity);
+        flushOrClear();
+    }
+
+    @Override
+    public void flushOrClear() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            entityManager.clear();
+            throw e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findIdsByText(List<String> terms, long offset, int limit) {
+        jakarta.persistence.Query query;
+        if (isPostgres()) {
+            query = entityManager.createNativeQuery("""
+                    SELECT e.id FROM employees e, to_tsquery('simple', :query) q
+                    WHERE e.search_vector @@ q
+                    ORDER BY ts_rank(e.search_vector, q) DESC, e.id
+                    """);
+            query.setParameter("query", toTsQuery(terms));
+        } else {
+            query = entityManager.createNativeQuery(
+                    "SELECT id FROM employees WHERE " + likeAllTerms(terms)
+                            + " ORDER BY " + likeRank(terms) + " DESC, id");
+            bindLikeTerms(query, terms);
+        }
+
+        return query.setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countByText(List<String> terms) {
+        jakarta.persistence.Query query;
+        if (isPostgres()) {
+            query = entityManager.createNativeQuery(
+                    "SELECT count(*) FROM employees WHERE search_vector @@ to_tsquery('simple', :query)");
+            query.setParameter("query", toTsQuery(terms));
+        } else {
+            query = entityManager.createNativeQuery("SELECT count(*) FROM employees WHERE " + likeAllTerms(terms));
+            bindLikeTerms(query, terms);
+        }
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * {@code jane:* & dev:*} - every term as a word prefix.
+     */
+    private static String toTsQuery(List<String> terms) {
+        return String.join(" & ", terms.stream().map(t -> t + ":*").toList());
+    }
+
+    private static String likeAllTerms(List<String> terms) {
+        List<String> clauses = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            List<String> columns = new ArrayList<>();
+            for (String column : TEXT_WEIGHTS.keySet()) {
+                columns.add("LOWER(" + column + ") LIKE :t" + i);
+            }
+            clauses.add("(" + String.join(" OR ", columns) + ")");
+        }
+        return String.join(" AND ", clauses);
+    }
+
+    /**
+     * Sum of the weights of every (term, column) hit, mirroring the A-D weights of the tsvector.
+     */
+    private static String likeRank(List<String> terms) {
+        List<String> hits = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            for (var column : TEXT_WEIGHTS.entrySet()) {
+                hits.add("CASE WHEN LOWER(" + column.getKey() + ") LIKE :t" + i
+                        + " THEN " + column.getValue() + " ELSE 0 END");
+            }
+        }
+        return "(" + String.join(" + ", hits) + ")";
+    }
+
+    private static void bindLikeTerms(jakarta.persistence.Query query, List<String> terms) {
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("t" + i, "%" + terms.get(i) + "%");
+        }
+    }
+
+    /**
+     * The columns {@link EmployeeRow} exposes. {@code manager.id} resolves to the
+     * {@code manager_id} FK column without joining the manager row.
+     */
+    private static List<Selection<?>> rowSelection(Root<EmployeeJPAEntity> root) {
+        return List.of(
+                root.get("id").alias(EmployeeRow.ID),
+                root.get("email").alias(EmployeeRow.EMAIL),
+                root.get("fullName").alias(EmployeeRow.FULL_NAME),
+                root.get("phoneNumber").alias(EmployeeRow.PHONE_NUMBER),
+                root.get("dob").alias(EmployeeRow.DOB),
+                root.get("isActive").alias(EmployeeRow.IS_ACTIVE),
+                root.get("designation").alias(EmployeeRow.DESIGNATION),
+                root.get("manager").get("id").alias(EmployeeRow.MANAGER_ID),
+                root.get("address").alias(EmployeeRow.ADDRESS),
+                root.get("createdAt").alias(EmployeeRow.CREATED_AT),
+                root.get("updatedAt").alias(EmployeeRow.UPDATED_AT),
+                root.get("version").alias(EmployeeRow.VERSION)
+        );
+    }
+
+    @Override
+    public long estimateCount() {
+        if (isPostgres()) {
+            Number estimate = (Number) entityManager
+                    .createNativeQuery("SELECT reltuples FROM pg_class WHERE oid = 'employees'::regclass")
+                    .getSingleResult();
+            // -1 (never analysed) or 0 (not yet analysed) carry no information
+            if (estimate != null && estimate.longValue() > 0) {
+                return estimate.longValue();
+            }
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        query.select(cb.count(query.from(EmployeeJPAEntity.class)));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,24 @@
+package com.deloitte.employee.infra.repositories;
+
+/**
+ * Aliases of the columns selected by the projection reads of {@link EmployeeJPARepositoryCustom}.
+ * Only the columns exposed to API callers are read; {@code password}, the audit columns and the
+ * manager/subordinate associations never leave the database.
+ */
+public final class EmployeeRow {
+    private EmployeeRow() {
+    }
+
+    public static final String ID = "id";
+    public static final String EMAIL = "email";
+    public static final String FULL_NAME = "fullName";
+    public static final String PHONE_NUMBER = "phoneNumber";
+    public static final String DOB = "dob";
+    public static final String IS_ACTIVE = "isActive";
+    public static final String DESIGNATION = "designation";
+    public static final String MANAGER_ID = "managerId";
+    public static final String ADDRESS = "address";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String VERSION = "version";
+}
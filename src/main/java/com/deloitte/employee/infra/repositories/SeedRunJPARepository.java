@@ -0,0 +1,9 @@
+package com.deloitte.employee.infra.repositories;
+
+import com.deloitte.employee.infra.entities.SeedRunJPAEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SeedRunJPARepository extends JpaRepository<SeedRunJPAEntity, String> {
+}
@@ -1,61 +1,225 @@
 package com.deloitte.employee.infra.seeder;
 
 import com.deloitte.employee.application.config.EmployeeManagementProperties;
-import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
-import com.deloitte.employee.presentation.service.IEmployeeManagementService;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.deloitte.employee.application.io.JsonRecordReader;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.infra.entities.SeedRunJPAEntity;
+import com.deloitte.employee.infra.repositories.SeedRunJPARepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.UUID;
 
+/**
+ * Loads the seed employees in the background once the application is ready.
+ * <p>
+ * The file is read token by token and created in chunks through the DAO's batch create, one
+ * transaction and one JDBC batch per chunk, so only one chunk is ever held in memory. The seed
+ * file is trusted input: records skip the API's bean validation, the database constraints still
+ * apply. Seed files on the file system are memory-mapped; resources inside the jar are streamed.
+ * While seeding runs the readiness probe reports out of service, see {@link SeedHealthIndicator}.
+ * </p>
+ * <p>
+ * The file's SHA-256 is computed from the same bytes the parser consumes and is recorded with the
+ * file's size and last-modified time once it has been seeded. A restart with a file of the same
+ * size and time does nothing without reading it. A file whose size or time changed is hashed
+ * first and only applied if its content changed too; a merely touched file just has its size and
+ * time recorded again, so seed employees deleted since are not brought back.
+ * </p>
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 class EmployeeSeeder {
-    private final IEmployeeManagementService employeeManagementService;
+
+    enum State {
+        DISABLED,
+        PENDING,
+        RUNNING,
+        SKIPPED,
+        COMPLETED,
+        FAILED
+    }
+
+    private final IEmployeeManagementDao employeeManagementDao;
     private final ObjectMapper mapper;
     private final EmployeeManagementProperties properties;
+    private final SeedRunJPARepository seedRuns;
+    private final ResourceLoader resourceLoader;
+    private final AsyncTaskExecutor taskExecutor;
+    private final Counter created;
+    private final Counter rejected;
+    private volatile State state;
+
+    EmployeeSeeder(IEmployeeManagementDao employeeManagementDao,
+                   ObjectMapper mapper,
+                   EmployeeManagementProperties properties,
+                   SeedRunJPARepository seedRuns,
+                   ResourceLoader resourceLoader,
+                   @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this.employeeManagementDao = employeeManagementDao;
+        this.mapper = mapper;
+        this.properties = properties;
+        this.seedRuns = seedRuns;
+        this.resourceLoader = resourceLoader;
+        this.taskExecutor = taskExecutor;
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.created = seedCounter(registry, "created");
+        this.rejected = seedCounter(registry, "rejected");
+        this.state = properties.getSeed().isEnabled() ? State.PENDING : State.DISABLED;
+    }
+
+    private static Counter seedCounter(MeterRegistry registry, String result) {
+        return Counter.builder("employee.seed.records")
+                .description("Seed records processed")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    State state() {
+        return state;
+    }
+
+    long createdCount() {
+        return (long) created.count();
+    }
+
+    long rejectedCount() {
+        return (long) rejected.count();
+    }
 
     @EventListener(ApplicationReadyEvent.class)
-    public void seedEmployees() {
+    public void onApplicationReady() {
+        if (state == State.DISABLED) {
+            log.info("Seeding is disabled");
+            return;
+        }
+        taskExecutor.execute(this::seedEmployees);
+    }
+
+    void seedEmployees() {
+        state = State.RUNNING;
         try {
-            if (!properties.isSeed()) {
-                log.info("Seeding is disabled");
+            String location = properties.getSeed().getLocation();
+            Resource resource = resourceLoader.getResource(location);
+            if (!resource.exists()) {
+                log.error("Seed file {} NOT FOUND", location);
+                state = State.FAILED;
                 return;
             }
 
-            log.info("Seeding employees from JSON...");
-
-            InputStream inputStream = getClass()
-                    .getClassLoader()
-                    .getResourceAsStream("content/employees.json");
-
-            if (inputStream == null) {
-                log.error("employees.json NOT FOUND in resources/content/");
+            Long contentLength = Try.of(resource::contentLength).getOrNull();
+            Long lastModified = Try.of(resource::lastModified).filter(time -> time > 0).getOrNull();
+            var previous = seedRuns.findById(location);
+            boolean unchanged = contentLength != null && lastModified != null && previous
+                    .filter(run -> contentLength.equals(run.getContentLength()) && lastModified.equals(run.getLastModified()))
+                    .isPresent();
+            if (unchanged) {
+                log.info("Seed data unchanged since it was last applied, skipping");
+                state = State.SKIPPED;
+                return;
+            }
+            if (previous.isPresent() && previous.get().getChecksum().equals(checksum(resource))) {
+                log.info("Seed file was touched but its content is unchanged, skipping");
+                SeedRunJPAEntity run = previous.get();
+                run.setContentLength(contentLength);
+                run.setLastModified(lastModified);
+                seedRuns.save(run);
+                state = State.SKIPPED;
                 return;
             }
 
-            List<EmployeeDetailInput> employees = mapper.readValue(
-                    inputStream,
-                    new TypeReference<>() {
+            log.info("Seeding employees from {}...", location);
+            int chunkSize = properties.getSeed().getChunkSize();
+            List<Employee> chunk = new ArrayList<>(chunkSize);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(open(resource), digest);
+                 var reader = JsonRecordReader.open(in, mapper, Employee.class)) {
+                for (var next = reader.next(); next.isDefined(); next = reader.next()) {
+                    if (next.get().input().isLeft()) {
+                        log.warn("Seed record on line {} skipped: {}", next.get().line(), next.get().input().getLeft());
+                        rejected.increment();
+                        continue;
                     }
-            );
-
-            for (EmployeeDetailInput employee : employees) {
-                employeeManagementService.createEmployee(employee);
-                log.info("Seeded employee: {}", employee.getEmail());
+                    chunk.add(next.get().input().get().toBuilder().id(UUID.randomUUID().toString()).build());
+                    if (chunk.size() == chunkSize) {
+                        seedChunk(chunk);
+                    }
+                }
+                seedChunk(chunk);
+                // whatever follows the last record is part of the file too
+                in.transferTo(OutputStream.nullOutputStream());
             }
 
-            log.info("Employee seeding COMPLETED, total: {}", employees.size());
-
+            seedRuns.save(SeedRunJPAEntity.builder()
+                    .resource(location)
+                    .checksum(HexFormat.of().formatHex(digest.digest()))
+                    .contentLength(contentLength)
+                    .lastModified(lastModified)
+                    .seededAt(LocalDateTime.now())
+                    .build());
+            log.info("Employee seeding COMPLETED, created: {}, rejected: {}", createdCount(), rejectedCount());
+            state = State.COMPLETED;
         } catch (Exception e) {
+            // the checksum is not recorded, so the next start tries again
             log.error("Error during employee seeding", e);
+            state = State.FAILED;
+        }
+    }
+
+    private void seedChunk(List<Employee> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var results = employeeManagementDao.createEmployees(chunk);
+        if (results.isLeft()) {
+            // the chunk is one transaction, see IEmployeeManagementDao#createEmployees
+            log.warn("Seed chunk of {} rejected: {}", chunk.size(), results.getLeft().getErrorDetail());
+            rejected.increment(chunk.size());
+        } else {
+            long done = results.get().stream().filter(Either::isRight).count();
+            created.increment(done);
+            rejected.increment(results.get().size() - done);
+        }
+        log.info("Seeding progress: {} created, {} rejected", createdCount(), rejectedCount());
+        chunk.clear();
+    }
+
+    private static String checksum(Resource resource) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        try (InputStream in = new DigestInputStream(open(resource), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
         }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static InputStream open(Resource resource) throws IOException {
+        return resource.isFile()
+                ? new MappedFileInputStream(resource.getFile().toPath())
+                : resource.getInputStream();
     }
 }
@@ -0,0 +1,81 @@
+package com.deloitte.employee.infra.seeder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through read-only memory mappings of a fixed-size window that slides over it, so
+ * seed files of any size are read without copying through a heap buffer and without the 2 GB
+ * limit of a single mapping. The pages of a window are released by the OS once the window is
+ * left behind.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    static final long DEFAULT_WINDOW = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long window;
+    private long mapped;
+    private MappedByteBuffer buffer;
+
+    MappedFileInputStream(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW);
+    }
+
+    MappedFileInputStream(Path file, long window) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.window = window;
+    }
+
+    /**
+     * @return false once the whole file has been read
+     */
+    private boolean ensureMapped() throws IOException {
+        if (buffer != null && buffer.hasRemaining()) {
+            return true;
+        }
+        if (mapped >= size) {
+            return false;
+        }
+        long length = Math.min(window, size - mapped);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapped, length);
+        mapped += length;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return ensureMapped() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureMapped()) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        long remaining = size - mapped + (buffer == null ? 0 : buffer.remaining());
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,31 @@
+package com.deloitte.employee.infra.seeder;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code seed} health: out of service until the seed employees are loaded, so that the readiness
+ * group holds traffic back meanwhile. A failed seed is reported but does not keep the application
+ * out of service.
+ */
+@Component
+@RequiredArgsConstructor
+class SeedHealthIndicator implements HealthIndicator {
+
+    private final EmployeeSeeder seeder;
+
+    @Override
+    public Health health() {
+        var state = seeder.state();
+        var health = switch (state) {
+            case PENDING, RUNNING -> Health.outOfService();
+            case DISABLED, SKIPPED, COMPLETED, FAILED -> Health.up();
+        };
+        return health.withDetail("state", state)
+                .withDetail("created", seeder.createdCount())
+                .withDetail("rejected", seeder.rejectedCount())
+                .build();
+    }
+}
@@ -2,23 +2,42 @@ package com.deloitte.employee.presentation.controller;
 
 import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.dto.response.EmployeeBatchResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeByIdsResult;
 import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.EmployeeImportResult;
 import com.deloitte.employee.presentation.dto.response.EmployeeListResponse;
+import com.deloitte.employee.presentation.dto.response.EmployeeSuggestion;
+import com.deloitte.employee.presentation.dto.response.EmployeeUpsertResult;
+import com.deloitte.employee.presentation.helper.ETags;
 import com.deloitte.employee.presentation.helper.validation.CreateGroup;
 import com.deloitte.employee.presentation.helper.validation.UpdateGroup;
 import com.deloitte.employee.presentation.service.IEmployeeManagementService;
 import com.deloitte.employee.presentation.service.ResponseMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static com.deloitte.employee.presentation.helper.Constants.EMPLOYEE_LIST_QUERY_IMPL;
 
@@ -28,17 +47,25 @@ import static com.deloitte.employee.presentation.helper.Constants.EMPLOYEE_LIST_
 class EmployeeManagementController {
     private final IEmployeeManagementService employeeManagementService;
     private final ResponseMapper<EmployeeDetail> responseMapper;
+    private final AsyncTaskExecutor taskExecutor;
 
     public EmployeeManagementController(IEmployeeManagementService employeeManagementService,
-                                        @Qualifier(EMPLOYEE_LIST_QUERY_IMPL) ResponseMapper<EmployeeDetail> responseMapper) {
+                                        @Qualifier(EMPLOYEE_LIST_QUERY_IMPL) ResponseMapper<EmployeeDetail> responseMapper,
+                                        @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor) {
         this.employeeManagementService = employeeManagementService;
         this.responseMapper = responseMapper;
+        this.taskExecutor = taskExecutor;
     }
 
     @Operation(
             summary = "Get employee by ID",
-            description = "Fetches a single employee based on the provided ID.",
+            description = "Fetches a single employee based on the provided ID. The response carries an ETag; "
+                    + "send it back as If-None-Match to get 304 Not Modified while the employee is unchanged.",
             responses = {
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "Employee unchanged since the ETag in If-None-Match"
+                    ),
                     @ApiResponse(
                             responseCode = "200",
                             description = "Employee details found",
@@ -101,14 +128,53 @@ class EmployeeManagementController {
     )
     @GetMapping("/{id}")
     public ResponseEntity<?> getEmployeeById(
-            @Parameter(description = "Employee ID") @PathVariable String id) {
-        return ResponseEntity.ok(employeeManagementService.getEmployeeById(id));
+            @Parameter(description = "Employee ID") @PathVariable String id,
+            WebRequest webRequest) {
+        EmployeeDetail employee = employeeManagementService.getEmployeeById(id);
+
+        // the row version changes with every write, so it identifies the representation
+        String etag = ETags.version(employee.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(employee);
+    }
+
+    @Operation(
+            summary = "Get many employees by ID",
+            description = "Fetches up to 10000 employees in one request instead of one GET per id. Employees are "
+                    + "returned in the order of the requested ids; ids without an employee are listed in missingIds",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Employees found and ids not found",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeByIdsResult.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "No ids, a null id or more than 10000 ids",
+                            content = @Content(mediaType = "application/json")
+                    )
+            }
+    )
+    @PostMapping("/by-ids")
+    public ResponseEntity<?> getByIds(@RequestBody List<String> ids) {
+        return ResponseEntity.ok(employeeManagementService.getEmployeesByIds(ids));
     }
 
     @Operation(
             summary = "Get paginated list of employees",
-            description = "Supports sorting, searching, and pagination",
+            description = "Supports sorting, searching, and pagination. Pass meta.nextCursor back as "
+                    + "`cursor` for keyset pagination, whose cost does not grow with page depth. The ETag of a page "
+                    + "changes with any write; send it back as If-None-Match with the same body to get 304 Not Modified",
             responses = {
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "No employee written since the ETag in If-None-Match"
+                    ),
                     @ApiResponse(
                             responseCode = "200",
                             description = "Paginated list of employees",
@@ -137,7 +203,9 @@ class EmployeeManagementController {
                                                       "meta": {
                                                         "page": 0,
                                                         "size": 20,
-                                                        "hasNext": true
+                                                        "hasNext": true,
+                                                        "nextCursor": "djEuQ1JFQVRFRF9BVDpNakF5TXkwd01TMHhOVlF3T1Rvek1Eb3dNQQ",
+                                                        "total": null
                                                       }
                                                     }
                                                     """
@@ -172,15 +240,156 @@ class EmployeeManagementController {
             }
     )
     @PostMapping("/all")
-    public ResponseEntity<?> getAll(@RequestBody QueryRequest req) {
+    public ResponseEntity<?> getAll(
+            @RequestBody QueryRequest req,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Taken before the read: a write racing with it leaves a tag that no longer matches,
+        // never a current tag on a stale page. The total mode is part of the representation
+        // but not of the rows read, so it is added to the query key
+        final String etag = ETags.of(employeeManagementService.collectionVersion(),
+                employeeManagementService.queryKey(req), String.valueOf(req.getTotal()));
+        if (ETags.isNotModified(ifNoneMatch, etag, HttpMethod.POST)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         final QueryRequest scaled = responseMapper.scaled(req);
-        return ResponseEntity.ok(responseMapper
-                .toResponse(req,scaled, employeeManagementService.getAllEmployee(scaled)));
+
+        // The total is opt-in; when asked for, count in parallel with the page read
+        final CompletableFuture<Long> total = req.getTotal() == null || req.getTotal() == QueryRequest.TotalMode.NONE
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.supplyAsync(() -> employeeManagementService.countEmployees(req), taskExecutor);
+
+        var response = responseMapper
+                .toResponse(req, scaled, employeeManagementService.getAllEmployee(scaled));
+        response.getMeta().setTotal(await(total));
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Operation(
+            summary = "Export employees",
+            description = "Streams every employee matching the search and filters as NDJSON or CSV, in the "
+                    + "requested sort order. Takes the fields of the list query as query parameters, e.g. "
+                    + "`search[designation]=dev&filters[0].field=isActive&filters[0].op=EQ&filters[0].value=true"
+                    + "&sorts[0].field=FULL_NAME&sorts[0].direction=ASC`; page, size, cursor and total are ignored "
+                    + "and free-text search is not supported. Rows are written as they are read from the database, "
+                    + "so the export can be of any size. The request is checked before anything is sent; should "
+                    + "reading fail after rows went out, the body ends with an error line ({\"error\":{...}} in "
+                    + "NDJSON, a #error record in CSV) and the connection is dropped instead of being completed",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Matching employees, one per line",
+                            content = {
+                                    @Content(mediaType = "application/x-ndjson"),
+                                    @Content(mediaType = "text/csv")
+                            }
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "ValidationError",
+                                            description = "Unknown format, free-text search or invalid filter",
+                                            value = """
+                                                    {
+                                                      "code": 400,
+                                                      "errorCode": "ERR_102: Bad request",
+                                                      "errorDetails": [
+                                                        {
+                                                          "code": "ERR_INVALID_EXPORT_FORMAT",
+                                                          "field": "format",
+                                                          "message": "Exports are available as ndjson and csv"
+                                                        }
+                                                      ],
+                                                      "message": "Validation failure occurred."
+                                                    }
+                                                    """
+                                    )
+                            )
+                    )
+            }
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @ModelAttribute QueryRequest req) {
+        var export = employeeManagementService.exportEmployees(req, format);
+        var disposition = ContentDisposition.attachment()
+                .filename("employees." + export.getFormat().extension())
+                .build();
+        // Written on an MVC async thread: each write blocks until the client has taken the
+        // previous buffer, so a slow client slows the database reads instead of filling memory
+        return ResponseEntity.ok()
+                .contentType(export.getFormat().mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(export.getBody());
+    }
+
+    @Operation(
+            summary = "Suggest employees by prefix",
+            description = "Type-ahead for people pickers. Served from an in-memory prefix index, "
+                    + "so it is cheap enough to call on every keystroke",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Matching employees in lexicographical order",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    array = @ArraySchema(schema = @Schema(implementation = EmployeeSuggestion.class))
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Validation error",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    examples = @ExampleObject(
+                                            name = "ValidationError",
+                                            description = "Unknown field, blank prefix or limit out of range",
+                                            value = """
+                                                    {
+                                                      "code": 400,
+                                                      "errorCode": "ERR_102: Bad request",
+                                                      "errorDetails": [
+                                                        {
+                                                          "code": "ERR_INVALID_SUGGEST_FIELD",
+                                                          "field": "field",
+                                                          "message": "Suggestions are available for fullName and email"
+                                                        }
+                                                      ],
+                                                      "message": "Validation failure occurred."
+                                                    }
+                                                    """
+                                    )
+                            )
+                    )
+            }
+    )
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(
+            @Parameter(description = "Case-insensitive prefix", example = "ja") @RequestParam String prefix,
+            @Parameter(description = "fullName or email") @RequestParam(defaultValue = "fullName") String field,
+            @Parameter(description = "Maximum number of suggestions (1-50)") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeManagementService.suggest(field, prefix, limit));
     }
 
     @Operation(
             summary = "Create a new employee",
-            description = "All required fields must be provided for creation",
+            description = "All required fields must be provided for creation. The manager is given by managerId; "
+                    + "managerEmail is for batch create and import only and is ignored here",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -274,6 +483,104 @@ class EmployeeManagementController {
         return ResponseEntity.ok(employeeManagementService.createEmployee(requestBody));
     }
 
+    @Operation(
+            summary = "Create many employees at once",
+            description = "Creates up to 5000 employees in one request. Email conflicts and managers are checked "
+                    + "with one query each and rows are inserted in JDBC batches. managerId names an existing "
+                    + "employee, managerEmail another employee in the same batch. Each employee is checked and "
+                    + "reported on its own, so invalid ones do not prevent the others from being created. A "
+                    + "constraint violated by a concurrent write while inserting fails the whole batch instead, "
+                    + "and nothing is created",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Per-employee outcome",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeBatchResult.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Empty batch or more than 5000 employees",
+                            content = @Content(mediaType = "application/json")
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "A concurrent write took an email of the batch; nothing was created",
+                            content = @Content(mediaType = "application/json")
+                    )
+            }
+    )
+    @PostMapping("/batch")
+    public ResponseEntity<?> createBatch(@RequestBody List<EmployeeDetailInput> requestBody) {
+        return ResponseEntity.ok(employeeManagementService.createEmployees(requestBody));
+    }
+
+    @Operation(
+            summary = "Import employees from a file",
+            description = "Bulk onboarding for uploads of any size. The body is NDJSON (one employee per line) or a "
+                    + "JSON array of employees, optionally gzip-compressed. Records are read and validated one at a "
+                    + "time and created in batches of 500, each committed on its own, so a failure never undoes "
+                    + "earlier batches. managerEmail may name an employee in the same batch. Malformed "
+                    + "JSON ends the import; the records before it are kept",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Counts and the rejected records with their line numbers",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeImportResult.class)
+                            )
+                    )
+            }
+    )
+    @PostMapping("/import")
+    public ResponseEntity<?> importEmployees(InputStream body) {
+        return ResponseEntity.ok(employeeManagementService.importEmployees(body));
+    }
+
+
+    @Operation(
+            summary = "Create or replace an employee by email",
+            description = "Idempotent create-or-update for synchronisation jobs: one atomic upsert keyed by the email "
+                    + "in the path. The body is a complete employee; optional fields left out are cleared. An employee "
+                    + "that already has these values is not written. The outcome tells whether the employee was "
+                    + "CREATED, UPDATED or UNCHANGED",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "201",
+                            description = "Employee created",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeUpsertResult.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Existing employee updated or already up to date",
+                            content = @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = EmployeeUpsertResult.class)
+                            )
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "Incomplete employee, email mismatch or unknown manager",
+                            content = @Content(mediaType = "application/json")
+                    )
+            }
+    )
+    @PutMapping("/by-email/{email}")
+    public ResponseEntity<?> upsertByEmail(
+            @Parameter(description = "Email of the employee to create or replace") @PathVariable String email,
+            @RequestBody EmployeeDetailInput requestBody) {
+        EmployeeUpsertResult result = employeeManagementService.upsertEmployee(email, requestBody);
+        HttpStatus status = "CREATED".equals(result.getOutcome()) ? HttpStatus.CREATED : HttpStatus.OK;
+        return ResponseEntity.status(status)
+                .eTag(ETags.version(result.getEmployee().getVersion()))
+                .body(result);
+    }
 
     @Operation(
             summary = "Partially update an employee",
@@ -368,8 +675,11 @@ class EmployeeManagementController {
     public ResponseEntity<?> update(
             @Parameter(description = "ID of employee to update") @PathVariable String id,
             @Validated(UpdateGroup.class)
-            @RequestBody EmployeeDetailInput requestBody) {
-        return ResponseEntity.ok(employeeManagementService.updateEmployee(id, requestBody));
+            @RequestBody EmployeeDetailInput requestBody,
+            @Parameter(description = "ETag of the version being updated; the update fails with 409 if the employee has changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        EmployeeDetail updated = employeeManagementService.updateEmployee(id, requestBody, ifMatch);
+        return ResponseEntity.ok().eTag(ETags.version(updated.getVersion())).body(updated);
     }
 
     @Operation(
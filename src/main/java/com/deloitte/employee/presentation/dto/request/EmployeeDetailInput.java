@@ -1,6 +1,7 @@
 package com.deloitte.employee.presentation.dto.request;
 
 
+import com.deloitte.employee.presentation.helper.validation.BatchCreateGroup;
 import com.deloitte.employee.presentation.helper.validation.CreateGroup;
 import com.deloitte.employee.presentation.helper.validation.UpdateGroup;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -50,9 +51,15 @@ public class EmployeeDetailInput {
     @NotBlank(groups = CreateGroup.class)
     private String designation;
 
-    @Schema(example = "qkjabdjhad-q2ewedsdc-qewdscsd")
+    @Schema(example = "qkjabdjhad-q2ewedsdc-qewdscsd", description = "Id of an existing employee")
     private String managerId;
 
+    @Schema(example = "jane.smith@example.com", description = "Batch create and import only: email of the "
+            + "manager when the manager is another employee of the same batch. Cannot be combined with managerId. "
+            + "Ignored by single create and upsert")
+    @Email(groups = BatchCreateGroup.class)
+    private String managerEmail;
+
     @Schema(example = "301 Sunset Blvd, Oakland, CA")
     private String address;
 }
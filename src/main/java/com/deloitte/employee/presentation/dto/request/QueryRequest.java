@@ -30,9 +30,55 @@ public class QueryRequest {
     private List<SortRequest> sorts;
     private Map<String, String> search;
 
+    @Schema(description = "Typed filters, AND-ed with search. Unlike search they compare the column "
+            + "itself, so indexes can serve them")
+    private List<FilterRequest> filters;
+
+    @Schema(example = "jane developer", description = "Free-text search over full name, email, designation and address. "
+            + "Results are ordered by relevance, so sorts are ignored; cannot be combined with search or cursor")
+    private String q;
+
+    @Schema(description = "Opaque cursor taken from meta.nextCursor of the previous page. "
+            + "When present the page number is ignored and rows after the cursor are returned")
+    private String cursor;
+
+    @Schema(example = "NONE", description = "Whether meta.total is filled: NONE (default, no count query), "
+            + "EXACT (COUNT over the search criteria) or ESTIMATED (planner statistics when no criteria are given)")
+    @Builder.Default
+    private TotalMode total = TotalMode.NONE;
+
+    public enum TotalMode {
+        NONE,
+        EXACT,
+        ESTIMATED
+    }
+
+    @Schema(name = "FilterRequest", description = "Typed filter on one field")
+    @Builder(toBuilder = true)
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class FilterRequest {
+
+        @Schema(example = "createdAt")
+        private String field;
+        @Schema(example = "RANGE", description = "EQ, PREFIX, IN, RANGE or IS_NULL")
+        private String op;
+        @Schema(description = "Operand of EQ and PREFIX")
+        private String value;
+        @Schema(description = "Operands of IN")
+        private List<String> values;
+        @Schema(example = "2024-01-01T00:00:00", description = "Inclusive lower bound of RANGE")
+        private String from;
+        @Schema(example = "2025-01-01T00:00:00", description = "Exclusive upper bound of RANGE")
+        private String to;
+    }
+
     @Schema(name = "SortRequest", description = "Sort field and direction")
     @Builder(toBuilder = true)
     @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
     public static class SortRequest {
 
         @Schema(example = "fullName")
@@ -0,0 +1,44 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import com.deloitte.employee.presentation.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(name = "EmployeeBatchResult", description = "Outcome of every employee of a batch create")
+public class EmployeeBatchResult {
+
+    @Schema(example = "998", description = "Number of employees created")
+    private int created;
+
+    @Schema(example = "2", description = "Number of employees rejected")
+    private int failed;
+
+    @Schema(description = "One entry per submitted employee, in submission order")
+    private List<Item> results;
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Data
+    @Schema(name = "EmployeeBatchItem", description = "Outcome of one employee of a batch create")
+    public static class Item {
+
+        @Schema(example = "0", description = "Position of the employee in the request")
+        private int index;
+
+        @Schema(description = "The created employee; null if it was rejected")
+        private EmployeeDetail employee;
+
+        @Schema(description = "Why the employee was rejected; null if it was created")
+        private ErrorResponse error;
+    }
+}
@@ -0,0 +1,23 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(name = "EmployeeByIdsResult", description = "Employees fetched by a list of ids")
+public class EmployeeByIdsResult {
+
+    @Schema(description = "The employees found, in the order their ids were requested")
+    private List<EmployeeDetail> employees;
+
+    @Schema(example = "[\"emp-404\"]", description = "Requested ids without an employee, in request order")
+    private List<String> missingIds;
+}
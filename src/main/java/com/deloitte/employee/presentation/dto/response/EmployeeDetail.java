@@ -52,4 +52,13 @@ public class EmployeeDetail {
     @Schema(example = "2023-01-15T09:30:00",
             description = "Timestamp when the employee started (ISO-8601)")
     private String startedAt;
+
+    @Schema(example = "2024-03-02T11:04:10",
+            description = "Timestamp of the last update to the employee (ISO-8601)")
+    private String updatedAt;
+
+    @Schema(example = "3",
+            description = "Row version, incremented by every update. Also sent as the ETag; "
+                    + "pass it back as If-Match to update only if nobody changed the employee meanwhile")
+    private Long version;
 }
@@ -0,0 +1,18 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import com.deloitte.employee.presentation.helper.EmployeeExportFormat;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * An export whose request has been checked; no employee is read until {@link #body} is written.
+ */
+@Builder
+@Getter
+public class EmployeeExport {
+
+    private final EmployeeExportFormat format;
+
+    private final StreamingResponseBody body;
+}
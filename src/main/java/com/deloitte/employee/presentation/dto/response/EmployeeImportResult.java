@@ -0,0 +1,52 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import com.deloitte.employee.presentation.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(name = "EmployeeImportResult", description = "Outcome of a bulk import")
+public class EmployeeImportResult {
+
+    @Schema(example = "100000", description = "Number of records read from the upload")
+    private long received;
+
+    @Schema(example = "99998", description = "Number of employees created")
+    private long created;
+
+    @Schema(example = "2", description = "Number of records rejected")
+    private long failed;
+
+    @Schema(description = "False if the upload ended in malformed JSON; the records before it are still imported")
+    private boolean complete;
+
+    @Schema(description = "Why records were rejected, in upload order; at most the first 1000")
+    private List<Rejection> errors;
+
+    @Schema(description = "True if more records were rejected than errors lists")
+    private boolean errorsTruncated;
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Data
+    @Schema(name = "EmployeeImportRejection", description = "Why one record of an import was rejected")
+    public static class Rejection {
+
+        @Schema(example = "41", description = "Position of the record in the upload, from 0")
+        private long index;
+
+        @Schema(example = "42", description = "Line of the upload the record starts on, from 1")
+        private long line;
+
+        private ErrorResponse error;
+    }
+}
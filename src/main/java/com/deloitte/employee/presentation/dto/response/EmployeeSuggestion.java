@@ -0,0 +1,23 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(name = "EmployeeSuggestion", description = "Type-ahead match for a people picker")
+public class EmployeeSuggestion {
+
+    @Schema(example = "7da9676e-a38e-4556-a633-96fc097c6151",
+            description = "Unique ID of the employee")
+    private String id;
+
+    @Schema(example = "Jack Davis",
+            description = "Value of the suggested field")
+    private String value;
+}
@@ -0,0 +1,21 @@
+package com.deloitte.employee.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Schema(name = "EmployeeUpsertResult", description = "Employee after a create-or-update by email")
+public class EmployeeUpsertResult {
+
+    @Schema(example = "UPDATED", description = "CREATED, UPDATED, or UNCHANGED if the employee already had these values")
+    private String outcome;
+
+    @Schema(description = "The employee as stored")
+    private EmployeeDetail employee;
+}
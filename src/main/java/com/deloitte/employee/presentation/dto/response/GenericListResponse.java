@@ -23,5 +23,7 @@ public class GenericListResponse<T> {
         private int page;
         private int size;
         private boolean hasNext;
+        private String nextCursor;
+        private Long total;
     }
 }
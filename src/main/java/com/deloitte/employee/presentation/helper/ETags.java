@@ -0,0 +1,80 @@
+package com.deloitte.employee.presentation.helper;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.springframework.http.HttpMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Strong entity tags built from the parts a representation is derived from.
+ */
+public final class ETags {
+    private ETags() {
+    }
+
+    /**
+     * @return quoted tag, equal for equal parts
+     */
+    public static String of(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            byte[] hash = digest.digest();
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Tag of a single employee: its row version, which every update increments.
+     */
+    public static String version(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Row version named by an {@code If-Match} header holding one tag from {@link #version}.
+     * If-Match compares strongly, so weak tags name no version.
+     */
+    public static Option<Long> parseVersion(String ifMatch) {
+        String tag = ifMatch.strip();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return Option.none();
+        }
+        String digits = tag.substring(1, tag.length() - 1);
+        if (!digits.chars().allMatch(Character::isDigit)) {
+            return Option.none();
+        }
+        return Try.of(() -> Long.parseLong(digits)).toOption();
+    }
+
+    /**
+     * Weak comparison against an {@code If-None-Match} header, as RFC 9110 prescribes for it.
+     * {@code *} matches any current representation, which answers 304 only to GET and HEAD;
+     * for other methods RFC 9110 requires 412 instead, so it is not a match for them here.
+     */
+    public static boolean isNotModified(String ifNoneMatch, String etag, HttpMethod method) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*")) {
+                if (method == HttpMethod.GET || method == HttpMethod.HEAD) {
+                    return true;
+                }
+            } else if ((tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.deloitte.employee.presentation.helper;
+
+import io.vavr.control.Option;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File formats of the employee export.
+ */
+public enum EmployeeExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    EmployeeExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    /**
+     * Accepts the format name in any case, e.g. {@code ndjson} or {@code CSV}.
+     */
+    public static Option<EmployeeExportFormat> of(String value) {
+        for (EmployeeExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return Option.some(format);
+            }
+        }
+        return Option.none();
+    }
+}
@@ -0,0 +1,177 @@
+package com.deloitte.employee.presentation.helper;
+
+import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes exported employees one at a time, so nothing but the current row is held in memory.
+ * Nothing is written before the first row or {@link #finish}, so a read that fails before its
+ * first row leaves the output untouched. The underlying writer is neither flushed nor closed.
+ */
+public abstract class EmployeeExportWriter {
+
+    protected final Writer out;
+    private boolean started;
+
+    private EmployeeExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    public void write(EmployeeDetail employee) throws IOException {
+        start();
+        writeRow(employee);
+    }
+
+    /**
+     * Ends a complete export, e.g. one without rows.
+     */
+    public void finish() throws IOException {
+        start();
+    }
+
+    /**
+     * Ends an export that failed after {@link #hasStarted() it started}, with a last line that
+     * no complete export holds, so the truncation can be told from a shorter result.
+     */
+    public abstract void writeError(String code, String message) throws IOException;
+
+    public boolean hasStarted() {
+        return started;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            writeHeader();
+        }
+    }
+
+    protected void writeHeader() throws IOException {
+    }
+
+    protected abstract void writeRow(EmployeeDetail employee) throws IOException;
+
+    /**
+     * @param mapper used for NDJSON rows only
+     */
+    public static EmployeeExportWriter of(EmployeeExportFormat format, Writer out, ObjectMapper mapper) {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, mapper);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    /**
+     * One JSON object per line, shaped like the API's {@link EmployeeDetail}.
+     */
+    private static final class Ndjson extends EmployeeExportWriter {
+
+        private final ObjectMapper mapper;
+        private final ObjectWriter json;
+
+        private Ndjson(Writer out, ObjectMapper mapper) {
+            super(out);
+            this.mapper = mapper;
+            this.json = mapper.writerFor(EmployeeDetail.class);
+        }
+
+        @Override
+        protected void writeRow(EmployeeDetail employee) throws IOException {
+            // JSON escapes line breaks inside strings, so every object stays on one line
+            out.write(json.writeValueAsString(employee));
+            out.write('\n');
+        }
+
+        /**
+         * {@code {"error":{"code":...,"message":...}}}, which no employee object has.
+         */
+        @Override
+        public void writeError(String code, String message) throws IOException {
+            Map<String, String> error = new LinkedHashMap<>();
+            error.put("code", code);
+            error.put("message", message);
+            out.write(mapper.writeValueAsString(Map.of("error", error)));
+            out.write('\n');
+        }
+    }
+
+    /**
+     * RFC 4180: a header row, CRLF line ends, and fields quoted only when they need to be.
+     */
+    private static final class Csv extends EmployeeExportWriter {
+
+        private static final List<Column> COLUMNS = List.of(
+                new Column("id", EmployeeDetail::getId),
+                new Column("email", EmployeeDetail::getEmail),
+                new Column("fullName", EmployeeDetail::getFullName),
+                new Column("phoneNumber", EmployeeDetail::getPhoneNumber),
+                new Column("dob", EmployeeDetail::getDob),
+                new Column("isActive", EmployeeDetail::getIsActive),
+                new Column("designation", EmployeeDetail::getDesignation),
+                new Column("managerId", EmployeeDetail::getManagerId),
+                new Column("address", EmployeeDetail::getAddress),
+                new Column("startedAt", EmployeeDetail::getStartedAt),
+                new Column("updatedAt", EmployeeDetail::getUpdatedAt),
+                new Column("version", EmployeeDetail::getVersion)
+        );
+
+        private Csv(Writer out) {
+            super(out);
+        }
+
+        @Override
+        protected void writeHeader() throws IOException {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) out.write(',');
+                out.write(COLUMNS.get(i).name());
+            }
+            out.write("\r\n");
+        }
+
+        /**
+         * A three-field {@code #error,code,message} record, unlike the rows before it.
+         */
+        @Override
+        public void writeError(String code, String message) throws IOException {
+            out.write("#error,");
+            writeField(String.valueOf(code));
+            out.write(',');
+            writeField(String.valueOf(message));
+            out.write("\r\n");
+        }
+
+        @Override
+        protected void writeRow(EmployeeDetail employee) throws IOException {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                if (i > 0) out.write(',');
+                Object value = COLUMNS.get(i).value().apply(employee);
+                if (value != null) {
+                    writeField(value.toString());
+                }
+            }
+            out.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        private record Column(String name, Function<EmployeeDetail, Object> value) {
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.deloitte.employee.presentation.helper.validation;
+
+/**
+ * Constraints on fields that only batch create and import read, checked on top of {@link CreateGroup}.
+ */
+public interface BatchCreateGroup {
+}
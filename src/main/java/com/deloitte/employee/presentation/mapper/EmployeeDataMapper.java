@@ -15,12 +15,14 @@ public class EmployeeDataMapper {
                 .email(employee.getEmail())
                 .fullName(employee.getFullName())
                 .phoneNumber(employee.getPhoneNumber())
-                .dob(employee.getDob().toString()) // TODO: Use some formatter
+                .dob(employee.getDob() != null ? employee.getDob().toString() : null) // TODO: Use some formatter
                 .address(employee.getAddress())
                 .designation(employee.getDesignation())
                 .isActive(employee.getIsActive())
                 .startedAt(employee.getCreatedAt().toString()) // TODO: Use some formatter
+                .updatedAt(employee.getUpdatedAt() != null ? employee.getUpdatedAt().toString() : null)
                 .managerId(employee.getManagerId())
+                .version(employee.getVersion())
                 .build();
     }
 
@@ -32,6 +34,7 @@ public class EmployeeDataMapper {
                 .isActive(employee.getIsActive())
                 .address(employee.getAddress())
                 .managerId(employee.getManagerId())
+                .managerEmail(employee.getManagerEmail())
                 .dob(employee.getDob())
                 .fullName(employee.getFullName())
                 .phoneNumber(employee.getPhoneNumber())
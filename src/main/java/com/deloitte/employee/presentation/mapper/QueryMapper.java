@@ -6,9 +6,11 @@ import com.deloitte.employee.domain.enums.SortDirection;
 import com.deloitte.employee.domain.failure.OperationFailure;
 import com.deloitte.employee.domain.failure.ValidationFailure;
 import com.deloitte.employee.domain.mapper.ExceptionMapper;
+import com.deloitte.employee.domain.valueobject.Cursor;
 import com.deloitte.employee.domain.valueobject.PageResult;
 import com.deloitte.employee.domain.valueobject.Query;
 import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
 import com.deloitte.employee.domain.valueobject.SortSpec;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
 import com.deloitte.employee.presentation.exception.AppException;
@@ -16,7 +18,9 @@ import io.vavr.control.Either;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 @Component
@@ -64,9 +68,22 @@ public class QueryMapper {
         if (searchMap != null) {
             searchMap.forEach(search::add);
         }
+        search.text(req.getQ());
+
+        if (req.getFilters() != null) {
+            for (var filter : req.getFilters()) {
+                search.filter(toCriterion(filter).fold(exceptionMapper::mapAndThrow, c -> c));
+            }
+        }
+
+        Cursor cursor = null;
+        if (req.getCursor() != null && !req.getCursor().isBlank()) {
+            cursor = Cursor.decode(req.getCursor())
+                    .fold(exceptionMapper::mapAndThrow, c -> c);
+        }
 
         Either<OperationFailure, Query<EmployeeSortField>> queryResult =
-                Query.of(pageResult, sortSpecs, search);
+                Query.of(pageResult, sortSpecs, search, cursor);
 
         return queryResult.fold(
                 exceptionMapper::mapAndThrow,
@@ -74,4 +91,27 @@ public class QueryMapper {
         );
     }
 
+    private static Either<OperationFailure, SearchCriterion> toCriterion(QueryRequest.FilterRequest filter) {
+        SearchCriterion.Operator operator;
+        try {
+            operator = SearchCriterion.Operator.valueOf(String.valueOf(filter.getOp()).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return Either.left(new ValidationFailure(
+                    List.of(ErrorDetail.builder()
+                            .field(filter.getField())
+                            .message("Unknown filter operator " + filter.getOp())
+                            .code("ERR_INVALID_SEARCH_OPERATOR")
+                            .build())
+            ));
+        }
+
+        List<?> values = switch (operator) {
+            case EQ, PREFIX -> Arrays.asList(filter.getValue());
+            case IN -> filter.getValues();
+            case RANGE -> Arrays.asList(filter.getFrom(), filter.getTo());
+            case IS_NULL -> List.of();
+        };
+        return SearchCriterion.of(filter.getField(), operator, values);
+    }
+
 }
@@ -2,18 +2,80 @@ package com.deloitte.employee.presentation.service;
 
 import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.dto.response.EmployeeBatchResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeByIdsResult;
 import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.EmployeeExport;
+import com.deloitte.employee.presentation.dto.response.EmployeeImportResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeSuggestion;
+import com.deloitte.employee.presentation.dto.response.EmployeeUpsertResult;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface IEmployeeManagementService {
     EmployeeDetail getEmployeeById(String id);
 
+    /**
+     * Fetches many employees at once; ids without an employee are reported instead of failing.
+     */
+    EmployeeByIdsResult getEmployeesByIds(List<String> ids);
+
     List<EmployeeDetail> getAllEmployee(QueryRequest query);
 
+    Long countEmployees(QueryRequest query);
+
+    /**
+     * Streams every employee matching the query's search and filters, in its sort order; paging
+     * and cursors do not apply. The request is checked here so that mistakes are reported before
+     * any output is written.
+     *
+     * @param format {@code ndjson} or {@code csv}
+     */
+    EmployeeExport exportEmployees(QueryRequest query, String format);
+
+    /**
+     * Changes whenever the result of any list query may have changed.
+     */
+    String collectionVersion();
+
+    /**
+     * Equal for requests that read the same rows, as the list cache keys them; fails like
+     * {@link #getAllEmployee} on an invalid request.
+     */
+    String queryKey(QueryRequest query);
+
+    List<EmployeeSuggestion> suggest(String field, String prefix, int limit);
+
     EmployeeDetail createEmployee(EmployeeDetailInput employee);
 
-    EmployeeDetail updateEmployee(String id, EmployeeDetailInput employee);
+    /**
+     * Creates the employees that are valid and rejects the others, reporting each one.
+     */
+    EmployeeBatchResult createEmployees(List<EmployeeDetailInput> employees);
+
+    /**
+     * Creates the employees of an NDJSON or JSON array upload, optionally gzip-compressed, while
+     * reading it: records are validated as they arrive and created in fixed-size batches, each in
+     * its own transaction, so memory does not grow with the upload.
+     */
+    EmployeeImportResult importEmployees(InputStream upload);
+
+    /**
+     * Creates the employee with this email, or replaces it if it exists, in one atomic write.
+     * The body's email, if given, must match.
+     */
+    EmployeeUpsertResult upsertEmployee(String email, EmployeeDetailInput employee);
+
+    default EmployeeDetail updateEmployee(String id, EmployeeDetailInput employee) {
+        return updateEmployee(id, employee, null);
+    }
+
+    /**
+     * @param ifMatch {@code If-Match} header: the ETag of the version the update is based on,
+     *                {@code *} or null to update whatever the current version is
+     */
+    EmployeeDetail updateEmployee(String id, EmployeeDetailInput employee, String ifMatch);
 
     void deleteEmployee(String id);
 }
@@ -1,33 +1,79 @@
 package com.deloitte.employee.presentation.service.impl;
 
+import com.deloitte.employee.application.io.JsonRecordReader;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.enums.EmployeeSuggestField;
 import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
 import com.deloitte.employee.domain.mapper.ExceptionMapper;
+import com.deloitte.employee.domain.repository.IEmployeeCollectionVersion;
 import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.domain.repository.IEmployeeSuggestionIndex;
 import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.dto.response.EmployeeBatchResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeByIdsResult;
 import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.EmployeeExport;
+import com.deloitte.employee.presentation.dto.response.EmployeeImportResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeSuggestion;
+import com.deloitte.employee.presentation.dto.response.EmployeeUpsertResult;
 import com.deloitte.employee.presentation.exception.AppException;
 import com.deloitte.employee.presentation.exception.ErrorCode;
 import com.deloitte.employee.domain.entities.ErrorDetail;
 import com.deloitte.employee.presentation.exception.ErrorResponse;
+import com.deloitte.employee.presentation.helper.ETags;
+import com.deloitte.employee.presentation.helper.EmployeeExportFormat;
+import com.deloitte.employee.presentation.helper.EmployeeExportWriter;
+import com.deloitte.employee.presentation.helper.validation.BatchCreateGroup;
+import com.deloitte.employee.presentation.helper.validation.CreateGroup;
 import com.deloitte.employee.presentation.mapper.EmployeeDataMapper;
 import com.deloitte.employee.presentation.mapper.QueryMapper;
 import com.deloitte.employee.presentation.service.IEmployeeManagementService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vavr.control.Either;
 import io.vavr.control.Option;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 class EmployeeManagementService implements IEmployeeManagementService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_BATCH_SIZE = 5_000;
+    private static final int MAX_IDS = 10_000;
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final int MAX_IMPORT_ERRORS = 1_000;
+
     private final IEmployeeManagementDao employeeRepository;
     private final EmployeeDataMapper employeeDataMapper;
     private final ExceptionMapper<AppException> exceptionMapper;
     private final QueryMapper queryMapper;
+    private final IEmployeeSuggestionIndex suggestionIndex;
+    private final IEmployeeCollectionVersion collectionVersion;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
 
 
     @Override
@@ -55,6 +101,27 @@ class EmployeeManagementService implements IEmployeeManagementService {
         );
     }
 
+    @Override
+    public EmployeeByIdsResult getEmployeesByIds(List<String> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_IDS || ids.contains(null)) {
+            throw exceptionMapper.map(new ValidationFailure(List.of(
+                    ErrorDetail.builder()
+                            .field("ids")
+                            .message("Between 1 and " + MAX_IDS + " non-null ids can be fetched at once")
+                            .code("ERR_INVALID_IDS")
+                            .build()
+            )));
+        }
+
+        List<Employee> found = employeeRepository.getEmployeesByIds(ids)
+                .fold(exceptionMapper::mapAndThrow, employees -> employees);
+        Set<String> foundIds = found.stream().map(Employee::getId).collect(Collectors.toSet());
+        return EmployeeByIdsResult.builder()
+                .employees(found.stream().map(employeeDataMapper::toDetail).toList())
+                .missingIds(ids.stream().distinct().filter(id -> !foundIds.contains(id)).toList())
+                .build();
+    }
+
     @Override
     public List<EmployeeDetail> getAllEmployee(QueryRequest query) {
         return employeeRepository.getEmployees(queryMapper.transform(query, exceptionMapper))
@@ -66,6 +133,117 @@ class EmployeeManagementService implements IEmployeeManagementService {
                 );
     }
 
+    @Override
+    public Long countEmployees(QueryRequest query) {
+        var estimated = query.getTotal() == QueryRequest.TotalMode.ESTIMATED;
+        return employeeRepository.countEmployees(queryMapper.transform(query, exceptionMapper).search(), estimated)
+                .fold(
+                        exceptionMapper::mapAndThrow,
+                        count -> count
+                );
+    }
+
+    @Override
+    public EmployeeExport exportEmployees(QueryRequest query, String format) {
+        List<ErrorDetail> errors = new ArrayList<>();
+        var exportFormat = EmployeeExportFormat.of(format);
+        if (exportFormat.isEmpty()) {
+            errors.add(ErrorDetail.builder()
+                    .field("format")
+                    .message("Exports are available as ndjson and csv")
+                    .code("ERR_INVALID_EXPORT_FORMAT")
+                    .build());
+        }
+        if (query.getQ() != null && !query.getQ().isBlank()) {
+            errors.add(ErrorDetail.builder()
+                    .field("q")
+                    .message("Free-text search is not supported by exports, use search or filters")
+                    .code("ERR_INVALID_SEARCH")
+                    .build());
+        }
+        if (!errors.isEmpty()) {
+            throw exceptionMapper.map(new ValidationFailure(errors));
+        }
+
+        var parsed = queryMapper.transform(query, exceptionMapper);
+        // everything that can be rejected is rejected here, while the status can still say so
+        employeeRepository.validateStream(parsed.search()).forEach(exceptionMapper::mapAndThrow);
+        return EmployeeExport.builder()
+                .format(exportFormat.get())
+                .body(out -> {
+                    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    EmployeeExportWriter rows = EmployeeExportWriter.of(exportFormat.get(), writer, objectMapper);
+                    var streamed = employeeRepository.streamEmployees(parsed.search(), parsed.sorts(), employee -> {
+                        try {
+                            rows.write(employeeDataMapper.toDetail(employee));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                    if (streamed.isLeft() && rows.hasStarted()) {
+                        // Rows may have gone out under a 200 already: end with a line no complete
+                        // export has, then fail, so the server drops the connection instead of
+                        // ending the response as if the export were complete
+                        rows.writeError(streamed.getLeft().getErrorDetail().getFirst().getCode(),
+                                "Export failed after the rows above; it is incomplete");
+                        writer.flush();
+                    }
+                    streamed.fold(exceptionMapper::mapAndThrow, count -> count);
+                    rows.finish();
+                    writer.flush();
+                })
+                .build();
+    }
+
+    @Override
+    public String collectionVersion() {
+        return collectionVersion.collectionVersion();
+    }
+
+    @Override
+    public String queryKey(QueryRequest query) {
+        return queryMapper.transform(query, exceptionMapper)
+                .normalized(EmployeeSortField.defaultSorts())
+                .toString();
+    }
+
+    @Override
+    public List<EmployeeSuggestion> suggest(String field, String prefix, int limit) {
+        List<ErrorDetail> errors = new ArrayList<>();
+        var suggestField = EmployeeSuggestField.of(field);
+        if (suggestField.isEmpty()) {
+            errors.add(ErrorDetail.builder()
+                    .field("field")
+                    .message("Suggestions are available for fullName and email")
+                    .code("ERR_INVALID_SUGGEST_FIELD")
+                    .build());
+        }
+        if (prefix == null || prefix.isBlank()) {
+            errors.add(ErrorDetail.builder()
+                    .field("prefix")
+                    .message("Prefix must not be blank")
+                    .code("ERR_INVALID_PREFIX")
+                    .build());
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            errors.add(ErrorDetail.builder()
+                    .field("limit")
+                    .message("Limit must be between 1 and " + MAX_SUGGESTIONS)
+                    .code("ERR_INVALID_LIMIT")
+                    .build());
+        }
+        if (!errors.isEmpty()) {
+            throw exceptionMapper.map(new ValidationFailure(errors));
+        }
+
+        return suggestionIndex.suggest(suggestField.get(), prefix.strip(), limit)
+                .fold(
+                        exceptionMapper::mapAndThrow,
+                        list -> list.stream()
+                                .map(s -> EmployeeSuggestion.builder().id(s.id()).value(s.value()).build())
+                                .toList()
+                );
+    }
 
     @Override
     public EmployeeDetail createEmployee(EmployeeDetailInput employee) {
@@ -77,8 +255,234 @@ class EmployeeManagementService implements IEmployeeManagementService {
     }
 
     @Override
-    public EmployeeDetail updateEmployee(String id, EmployeeDetailInput employee) {
-        return employeeRepository.updateEmployee(id, employeeDataMapper.toEntity(employee))
+    public EmployeeBatchResult createEmployees(List<EmployeeDetailInput> employees) {
+        if (employees == null || employees.isEmpty() || employees.size() > MAX_BATCH_SIZE) {
+            throw exceptionMapper.map(new ValidationFailure(List.of(
+                    ErrorDetail.builder()
+                            .field("employees")
+                            .message("A batch holds between 1 and " + MAX_BATCH_SIZE + " employees")
+                            .code("ERR_INVALID_BATCH_SIZE")
+                            .build()
+            )));
+        }
+
+        // Bean validation per employee, so one invalid record does not reject the whole batch
+        List<EmployeeBatchResult.Item> items = new ArrayList<>(Collections.nCopies(employees.size(), null));
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Employee> valid = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeDetailInput input = employees.get(i);
+            Set<ConstraintViolation<EmployeeDetailInput>> violations = input == null
+                    ? Set.of()
+                    : validator.validate(input, CreateGroup.class, BatchCreateGroup.class);
+            if (input == null || !violations.isEmpty()) {
+                items.set(i, failedItem(i, validationFailure(violations)));
+                continue;
+            }
+            validIndexes.add(i);
+            valid.add(employeeDataMapper.toEntity(input));
+        }
+
+        if (!valid.isEmpty()) {
+            List<Either<OperationFailure, Employee>> results = employeeRepository.createEmployees(valid)
+                    .fold(exceptionMapper::mapAndThrow, r -> r);
+            for (int j = 0; j < results.size(); j++) {
+                int index = validIndexes.get(j);
+                items.set(index, results.get(j).fold(
+                        f -> failedItem(index, f),
+                        created -> EmployeeBatchResult.Item.builder()
+                                .index(index)
+                                .employee(employeeDataMapper.toDetail(created))
+                                .build()
+                ));
+            }
+        }
+
+        int created = (int) items.stream().filter(item -> item.getEmployee() != null).count();
+        return EmployeeBatchResult.builder()
+                .created(created)
+                .failed(items.size() - created)
+                .results(items)
+                .build();
+    }
+
+    @Override
+    public EmployeeImportResult importEmployees(InputStream upload) {
+        ImportTally tally = new ImportTally();
+        List<JsonRecordReader.Record<EmployeeDetailInput>> pending = new ArrayList<>(IMPORT_BATCH_SIZE);
+        List<Employee> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        try (var reader = JsonRecordReader.open(upload, objectMapper, EmployeeDetailInput.class)) {
+            for (var next = reader.next(); next.isDefined(); next = reader.next()) {
+                var record = next.get();
+                tally.received++;
+                if (record.input().isLeft()) {
+                    tally.reject(record.index(), record.line(), exceptionMapper.map(new ValidationFailure(List.of(
+                            ErrorDetail.builder()
+                                    .field("record")
+                                    .message(record.input().getLeft())
+                                    .code("ERR_INVALID_RECORD")
+                                    .build()
+                    ))).getErrorDetail());
+                    continue;
+                }
+                var violations = validator.validate(record.input().get(), CreateGroup.class, BatchCreateGroup.class);
+                if (!violations.isEmpty()) {
+                    tally.reject(record.index(), record.line(), exceptionMapper.map(validationFailure(violations)).getErrorDetail());
+                    continue;
+                }
+                pending.add(record);
+                batch.add(employeeDataMapper.toEntity(record.input().get()));
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(pending, batch, tally);
+                }
+            }
+            importBatch(pending, batch, tally);
+        } catch (IOException e) {
+            // the records read so far are imported; nothing after the fault can be trusted
+            importBatch(pending, batch, tally);
+            tally.complete = false;
+            long line = e instanceof JsonProcessingException json && json.getLocation() != null
+                    ? json.getLocation().getLineNr()
+                    : 0;
+            tally.reject(tally.received, line, exceptionMapper.map(new ValidationFailure(List.of(
+                    ErrorDetail.builder()
+                            .field("upload")
+                            .message(e instanceof JsonProcessingException json ? json.getOriginalMessage() : e.getMessage())
+                            .code(e instanceof JsonProcessingException ? "ERR_MALFORMED_JSON" : "ERR_UNREADABLE_UPLOAD")
+                            .build()
+            ))).getErrorDetail());
+        }
+        return tally.toResult();
+    }
+
+    /**
+     * Creates one batch in its own transaction and records the outcome of each of its records.
+     */
+    private void importBatch(List<JsonRecordReader.Record<EmployeeDetailInput>> pending, List<Employee> batch, ImportTally tally) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        var results = employeeRepository.createEmployees(batch);
+        for (int i = 0; i < pending.size(); i++) {
+            var record = pending.get(i);
+            var result = results.isLeft()
+                    ? Either.<OperationFailure, Employee>left(results.getLeft())
+                    : results.get().get(i);
+            if (result.isRight()) {
+                tally.created++;
+            } else {
+                tally.reject(record.index(), record.line(), exceptionMapper.map(result.getLeft()).getErrorDetail());
+            }
+        }
+        log.info("Import progress: {} records read, {} created, {} rejected", tally.received, tally.created, tally.failed);
+        pending.clear();
+        batch.clear();
+    }
+
+    /**
+     * Running counts of an import. Only the first {@link #MAX_IMPORT_ERRORS} rejections are kept,
+     * so an upload of nothing but bad records still takes bounded memory.
+     */
+    private static final class ImportTally {
+        private long received;
+        private long created;
+        private long failed;
+        private boolean complete = true;
+        private boolean errorsTruncated;
+        private final List<EmployeeImportResult.Rejection> errors = new ArrayList<>();
+
+        void reject(long index, long line, ErrorResponse error) {
+            failed++;
+            if (errors.size() < MAX_IMPORT_ERRORS) {
+                errors.add(EmployeeImportResult.Rejection.builder().index(index).line(line).error(error).build());
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        EmployeeImportResult toResult() {
+            return EmployeeImportResult.builder()
+                    .received(received)
+                    .created(created)
+                    .failed(failed)
+                    .complete(complete)
+                    .errors(errors)
+                    .errorsTruncated(errorsTruncated)
+                    .build();
+        }
+    }
+
+    private static ValidationFailure validationFailure(Set<ConstraintViolation<EmployeeDetailInput>> violations) {
+        return new ValidationFailure(violations.stream()
+                .map(v -> ErrorDetail.builder()
+                        .field(v.getPropertyPath().toString())
+                        .message(v.getMessage())
+                        .code("VALIDATION_ERROR")
+                        .build())
+                .toList());
+    }
+
+    @Override
+    public EmployeeUpsertResult upsertEmployee(String email, EmployeeDetailInput employee) {
+        if (employee.getEmail() != null && !employee.getEmail().equalsIgnoreCase(email)) {
+            throw exceptionMapper.map(new ValidationFailure(List.of(
+                    ErrorDetail.builder()
+                            .field("email")
+                            .message("Email in the body must match the email in the path")
+                            .code("ERR_EMAIL_MISMATCH")
+                            .build()
+            )));
+        }
+        // the path names the employee; the body must otherwise be a complete employee
+        EmployeeDetailInput input = EmployeeDetailInput.builder()
+                .email(email)
+                .fullName(employee.getFullName())
+                .password(employee.getPassword())
+                .phoneNumber(employee.getPhoneNumber())
+                .dob(employee.getDob())
+                .isActive(employee.getIsActive())
+                .designation(employee.getDesignation())
+                .managerId(employee.getManagerId())
+                .address(employee.getAddress())
+                .build();
+        var violations = validator.validate(input, CreateGroup.class);
+        if (!violations.isEmpty()) {
+            throw exceptionMapper.map(validationFailure(violations));
+        }
+
+        return employeeRepository.upsertEmployee(employeeDataMapper.toEntity(input))
+                .fold(
+                        exceptionMapper::mapAndThrow,
+                        upserted -> EmployeeUpsertResult.builder()
+                                .outcome(upserted.outcome().name())
+                                .employee(employeeDataMapper.toDetail(upserted.employee()))
+                                .build()
+                );
+    }
+
+    private EmployeeBatchResult.Item failedItem(int index, OperationFailure failure) {
+        return EmployeeBatchResult.Item.builder()
+                .index(index)
+                .error(exceptionMapper.map(failure).getErrorDetail())
+                .build();
+    }
+
+    @Override
+    public EmployeeDetail updateEmployee(String id, EmployeeDetailInput employee, String ifMatch) {
+        var update = employeeDataMapper.toEntity(employee);
+        if (ifMatch != null && !"*".equals(ifMatch.strip())) {
+            var version = ETags.parseVersion(ifMatch).getOrElseThrow(() -> exceptionMapper.map(
+                    new ValidationFailure(List.of(
+                            ErrorDetail.builder()
+                                    .field("If-Match")
+                                    .message("If-Match must be the ETag of the employee")
+                                    .code("ERR_INVALID_IF_MATCH")
+                                    .build()
+                    ))
+            ));
+            update = update.toBuilder().version(version).build();
+        }
+        return employeeRepository.updateEmployee(id, update)
                 .fold(
                         exceptionMapper::mapAndThrow,
                         employeeDataMapper::toDetail
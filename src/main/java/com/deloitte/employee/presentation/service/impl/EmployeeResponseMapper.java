@@ -1,12 +1,16 @@
 package com.deloitte.employee.presentation.service.impl;
 
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.valueobject.Cursor;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
 import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
 import com.deloitte.employee.presentation.dto.response.GenericListResponse;
 import com.deloitte.employee.presentation.service.ResponseMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.deloitte.employee.presentation.helper.Constants.EMPLOYEE_LIST_QUERY_IMPL;
 
@@ -28,6 +32,8 @@ class EmployeeResponseMapper implements ResponseMapper<EmployeeDetail> {
                 .page(originalQuery.getPage())
                 .size(originalSize)
                 .hasNext(hasNext)
+                // text search pages are ordered by relevance and cannot be resumed from a cursor
+                .nextCursor(hasNext && !isTextSearch(originalQuery) ? nextCursor(trimmed.getLast()) : null)
                 .build();
 
         return GenericListResponse.<EmployeeDetail>builder()
@@ -35,4 +41,21 @@ class EmployeeResponseMapper implements ResponseMapper<EmployeeDetail> {
                 .meta(meta)
                 .build();
     }
+
+    private static boolean isTextSearch(QueryRequest query) {
+        return query.getQ() != null && !query.getQ().isBlank();
+    }
+
+    /**
+     * Encodes every sortable key of the last row, so the cursor can be resumed under any sort.
+     */
+    private static String nextCursor(EmployeeDetail last) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put(EmployeeSortField.CREATED_AT.name(), last.getStartedAt());
+        keys.put(EmployeeSortField.UPDATED_AT.name(), last.getUpdatedAt());
+        keys.put(EmployeeSortField.FULL_NAME.name(), last.getFullName());
+        keys.put(EmployeeSortField.EMAIL.name(), last.getEmail());
+        keys.put(EmployeeSortField.DESIGNATION.name(), last.getDesignation());
+        return new Cursor(keys, last.getId()).encode();
+    }
 }
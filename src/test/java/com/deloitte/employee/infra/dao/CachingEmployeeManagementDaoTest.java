@@ -0,0 +1,293 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.entities.ErrorDetail;
+import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.domain.failure.InfraStructureFailure;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.valueobject.PageResult;
+import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import com.deloitte.employee.infra.invalidation.LoopbackInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import io.vavr.control.Option;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CachingEmployeeManagementDaoTest {
+
+    private EmployeeManagementDao delegate;
+    private EmployeeManagementProperties properties;
+    private MeterRegistry registry;
+    private final List<LoopbackInvalidationBus> buses = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        delegate = mock(EmployeeManagementDao.class);
+        properties = new EmployeeManagementProperties();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void closeBuses() {
+        buses.forEach(LoopbackInvalidationBus::close);
+    }
+
+    private CachingEmployeeManagementDao sut() {
+        return node(delegate);
+    }
+
+    /**
+     * A caching DAO as it would run on its own node, sharing the JVM-wide loopback bus.
+     */
+    private CachingEmployeeManagementDao node(EmployeeManagementDao dao) {
+        var meterRegistry = new StaticListableBeanFactory(Map.of("meterRegistry", registry))
+                .getBeanProvider(MeterRegistry.class);
+        var bus = new LoopbackInvalidationBus(meterRegistry);
+        buses.add(bus);
+        return new CachingEmployeeManagementDao(dao, properties, bus, meterRegistry);
+    }
+
+    private static Employee employee(String id, String name) {
+        return Employee.builder().id(id).fullName(name).email(id + "@example.com").build();
+    }
+
+    @Test
+    void getEmployeeById_shouldServeRepeatedReadsFromCache() {
+        when(delegate.getEmployeeById("1")).thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        var sut = sut();
+
+        sut.getEmployeeById("1");
+        var second = sut.getEmployeeById("1");
+
+        assertThat(second.get().get().getFullName()).isEqualTo("Jane");
+        verify(delegate, times(1)).getEmployeeById("1");
+        assertThat(registry.get("cache.gets").tag("cache", "employee.by-id").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getEmployeeById_shouldReloadAfterChangeEvent() {
+        when(delegate.getEmployeeById("1"))
+                .thenReturn(Either.right(Option.some(employee("1", "Jane"))))
+                .thenReturn(Either.right(Option.some(employee("1", "Janet"))));
+        var sut = sut();
+
+        sut.getEmployeeById("1");
+        sut.onEmployeeChanged(EmployeeChangedEvent.updated(employee("1", "Janet")));
+
+        assertThat(sut.getEmployeeById("1").get().get().getFullName()).isEqualTo("Janet");
+        verify(delegate, times(2)).getEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeeById_shouldForgetRememberedMissWhenEmployeeIsCreated() {
+        when(delegate.getEmployeeById("1"))
+                .thenReturn(Either.right(Option.none()))
+                .thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        var sut = sut();
+
+        assertThat(sut.getEmployeeById("1").get().isEmpty()).isTrue();
+        assertThat(sut.getEmployeeById("1").get().isEmpty()).isTrue();
+        sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("1", "Jane")));
+
+        assertThat(sut.getEmployeeById("1").get().isDefined()).isTrue();
+        verify(delegate, times(2)).getEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeeById_shouldNotCacheFailures() {
+        OperationFailure failure = new InfraStructureFailure(List.of(ErrorDetail.builder().code("ERR_DB").build()));
+        when(delegate.getEmployeeById("1"))
+                .thenReturn(Either.left(failure))
+                .thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        var sut = sut();
+
+        assertThat(sut.getEmployeeById("1").getLeft()).isSameAs(failure);
+        assertThat(sut.getEmployeeById("1").isRight()).isTrue();
+        verify(delegate, times(2)).getEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeeById_shouldPassThrough_whenDisabled() {
+        properties.getCache().getById().setEnabled(false);
+        when(delegate.getEmployeeById("1")).thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        var sut = sut();
+
+        sut.getEmployeeById("1");
+        sut.getEmployeeById("1");
+
+        verify(delegate, times(2)).getEmployeeById("1");
+    }
+
+    @Test
+    void getEmployeesByIds_shouldReadOnlyIdsNotInCache() {
+        when(delegate.getEmployeeById("1")).thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        when(delegate.getEmployeeById("2")).thenReturn(Either.right(Option.none()));
+        when(delegate.getEmployeesByIds(List.of("3"))).thenReturn(Either.right(List.of(employee("3", "John"))));
+        var sut = sut();
+        sut.getEmployeeById("1");
+        sut.getEmployeeById("2");
+
+        var result = sut.getEmployeesByIds(List.of("3", "2", "1"));
+
+        assertThat(result.get()).extracting(Employee::getId).containsExactly("3", "1");
+        verify(delegate).getEmployeesByIds(List.of("3"));
+    }
+
+    @Test
+    void getEmployeesByIds_shouldNotTouchTheDatabase_whenAllIdsAreCached() {
+        when(delegate.getEmployeeById("1")).thenReturn(Either.right(Option.some(employee("1", "Jane"))));
+        var sut = sut();
+        sut.getEmployeeById("1");
+
+        assertThat(sut.getEmployeesByIds(List.of("1", "1")).get()).hasSize(1);
+        verify(delegate, never()).getEmployeesByIds(any());
+    }
+
+    private static Query<EmployeeSortField> query(String designation, boolean defaultSorts) {
+        Search search = Search.empty();
+        search.add("designation", designation);
+        return Query.of(
+                PageResult.defaultPage().get(),
+                defaultSorts ? EmployeeSortField.defaultSorts() : List.of(),
+                search
+        ).get();
+    }
+
+    @Test
+    void getEmployees_shouldServeEquivalentQueriesFromCache() {
+        when(delegate.getEmployees(any())).thenReturn(Either.right(List.of(employee("1", "Jane"))));
+        var sut = sut();
+
+        sut.getEmployees(query("Dev", false));
+        var second = sut.getEmployees(query("dev", true));
+
+        assertThat(second.get()).extracting(Employee::getId).containsExactly("1");
+        verify(delegate, times(1)).getEmployees(any());
+        assertThat(registry.get("employee.list.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getEmployees_shouldReload_afterAnyWrite() {
+        when(delegate.getEmployees(any()))
+                .thenReturn(Either.right(List.of(employee("1", "Jane"))))
+                .thenReturn(Either.right(List.of(employee("1", "Jane"), employee("2", "John"))));
+        var sut = sut();
+
+        sut.getEmployees(query("dev", true));
+        sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("2", "John")));
+
+        assertThat(sut.getEmployees(query("dev", true)).get()).hasSize(2);
+        verify(delegate, times(2)).getEmployees(any());
+    }
+
+    @Test
+    void getEmployees_shouldRefreshEarly_whenBetaIsLarge() {
+        properties.getCache().getList().setEarlyRefreshBeta(1e15);
+        when(delegate.getEmployees(any())).thenReturn(Either.right(List.of(employee("1", "Jane"))));
+        var sut = sut();
+
+        sut.getEmployees(query("dev", true));
+        sut.getEmployees(query("dev", true));
+
+        verify(delegate, times(2)).getEmployees(any());
+        assertThat(registry.get("employee.list.cache").tag("result", "early-refresh").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getEmployees_shouldNotCacheFailures() {
+        OperationFailure failure = new InfraStructureFailure(List.of(ErrorDetail.builder().code("ERR_DB").build()));
+        when(delegate.getEmployees(any())).thenReturn(Either.left(failure));
+        var sut = sut();
+
+        sut.getEmployees(query("dev", true));
+        sut.getEmployees(query("dev", true));
+
+        verify(delegate, times(2)).getEmployees(any());
+    }
+
+    @Test
+    void onEmployeeChanged_shouldInvalidateCachesOnOtherNodes() {
+        EmployeeManagementDao otherDelegate = mock(EmployeeManagementDao.class);
+        when(otherDelegate.getEmployeeById("1"))
+                .thenReturn(Either.right(Option.some(employee("1", "Jane"))))
+                .thenReturn(Either.right(Option.some(employee("1", "Janet"))));
+        var writer = sut();
+        var reader = node(otherDelegate);
+
+        reader.getEmployeeById("1");
+        writer.onEmployeeChanged(EmployeeChangedEvent.updated(employee("1", "Janet")));
+
+        assertThat(reader.getEmployeeById("1").get().get().getFullName()).isEqualTo("Janet");
+        verify(otherDelegate, times(2)).getEmployeeById("1");
+        assertThat(registry.get("employee.invalidation.lag").tag("bus", "loopback").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void onEmployeeChanged_shouldPublishOncePerCommit() {
+        var meterRegistry = new StaticListableBeanFactory(Map.of("meterRegistry", registry))
+                .getBeanProvider(MeterRegistry.class);
+        InvalidationBus bus = mock(InvalidationBus.class);
+        var sut = new CachingEmployeeManagementDao(delegate, properties, bus, meterRegistry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("1", "Jane")));
+            sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("2", "John")));
+            verifyNoInteractions(bus);
+            assertThat(sut.writeVersion()).isZero();
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(bus).publish(Set.of("1", "2"));
+        verifyNoMoreInteractions(bus);
+        assertThat(sut.writeVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void onEmployeeChanged_shouldPublishEverything_whenCommitWroteTooManyRows() {
+        properties.getCache().getInvalidation().setPublishEverythingAbove(1);
+        var meterRegistry = new StaticListableBeanFactory(Map.of("meterRegistry", registry))
+                .getBeanProvider(MeterRegistry.class);
+        InvalidationBus bus = mock(InvalidationBus.class);
+        var sut = new CachingEmployeeManagementDao(delegate, properties, bus, meterRegistry);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("1", "Jane")));
+            sut.onEmployeeChanged(EmployeeChangedEvent.created(employee("2", "John")));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(bus).publishEverything();
+        verify(bus, never()).publish(any());
+    }
+}
@@ -1,16 +1,26 @@
 package com.deloitte.employee.infra.dao;
 
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
 import com.deloitte.employee.domain.entities.Employee;
 import com.deloitte.employee.domain.enums.EmployeeSortField;
 import com.deloitte.employee.domain.failure.*;
+import com.deloitte.employee.domain.valueobject.Cursor;
 import com.deloitte.employee.domain.valueobject.PageResult;
 import com.deloitte.employee.domain.valueobject.Query;
 import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
 import com.deloitte.employee.domain.valueobject.SortSpec;
+import com.deloitte.employee.domain.valueobject.UpsertResult;
+import com.deloitte.employee.infra.index.EmployeeSearchSchema;
+import com.deloitte.employee.infra.index.EmployeeTrigramIndex;
+import com.deloitte.employee.infra.invalidation.LoopbackInvalidationBus;
 import com.deloitte.employee.infra.mapper.EmployeeJPAMapper;
 import com.deloitte.employee.infra.repositories.EmployeeJPARepository;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,15 +35,18 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.deloitte.employee.helper.TestUtils.getLexicographicalFullNames;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 
-@DataJpaTest
-@Import({EmployeeManagementDao.class, EmployeeJPAMapper.class})
+// statistics count the statements each write issues
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({EmployeeManagementDao.class, EmployeeQueryPlanCache.class, EmployeeJPAMapper.class, EmployeeTrigramIndex.class, LoopbackInvalidationBus.class, EmployeeSearchSchema.class, EmployeeManagementProperties.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("local")
 class EmployeeManagementDaoTest {
@@ -47,6 +60,12 @@ class EmployeeManagementDaoTest {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EmployeeSearchSchema searchSchema;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Employee employee0;
     private Employee employee1;
     private Employee employee2;
@@ -153,6 +172,81 @@ class EmployeeManagementDaoTest {
         recreateTable();
     }
 
+    @Test
+    void createEmployees_shouldInsertValidEmployeesAndReportTheRest() {
+        saveEmployeeWithoutManager(manager0);
+
+        Employee withExistingManager = employee0.toBuilder().managerId(manager0.getId()).build();
+        Employee takenEmail = employee1.toBuilder().email(manager0.getEmail()).build();
+        Employee unknownManager = employee2.toBuilder().managerId("missing-manager").build();
+        Employee sameEmailTwice = withExistingManager.toBuilder().id(UUID.randomUUID().toString()).build();
+
+        var result = employeeManagementDao.createEmployees(
+                List.of(withExistingManager, takenEmail, unknownManager, sameEmailTwice));
+
+        assertThat(result.isRight()).isTrue();
+        var items = result.get();
+        assertThat(items.get(0).get().getManagerId()).isEqualTo(manager0.getId());
+        assertThat(items.get(1).getLeft()).isInstanceOf(ResourceConflictFailure.class);
+        assertThat(items.get(2).getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_MANAGER_NOT_FOUND");
+        assertThat(items.get(3).getLeft()).isInstanceOf(ResourceConflictFailure.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void createEmployees_shouldResolveManagersCreatedInTheSameBatch() {
+        // the subordinate comes first, so it can only be inserted after its manager
+        Employee subordinate = employee0.toBuilder().managerEmail(manager0.getEmail()).build();
+
+        var result = employeeManagementDao.createEmployees(List.of(subordinate, manager0));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).allMatch(Either::isRight);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT manager_id FROM employees WHERE id = ?", String.class, employee0.getId()
+        )).isEqualTo(manager0.getId());
+    }
+
+    @Test
+    void createEmployees_shouldRejectCyclicManagerChains() {
+        Employee first = employee0.toBuilder().managerEmail(employee1.getEmail()).build();
+        Employee second = employee1.toBuilder().managerEmail(employee0.getEmail()).build();
+
+        var result = employeeManagementDao.createEmployees(List.of(first, second, employee2));
+
+        assertThat(result.get().get(0).getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_MANAGER_CYCLE");
+        assertThat(result.get().get(1).isLeft()).isTrue();
+        assertThat(result.get().get(2).isRight()).isTrue();
+    }
+
+    @Test
+    void createEmployees_shouldDefaultToActive_whenIsActiveIsOmitted() {
+        Employee withoutFlag = employee0.toBuilder().isActive(null).build();
+
+        var result = employeeManagementDao.createEmployees(List.of(withoutFlag, employee1));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).allMatch(Either::isRight);
+        assertThat(result.get().getFirst().get().getIsActive()).isTrue();
+    }
+
+    @Test
+    void createEmployees_shouldKeepManagerIdAndManagerEmailApart() {
+        // an email in managerId is not an id, even when a batch member has it
+        Employee emailAsId = employee0.toBuilder().managerId(manager0.getEmail()).build();
+        Employee both = employee1.toBuilder().managerId(manager1.getId()).managerEmail(manager0.getEmail()).build();
+        Employee outsideBatch = employee2.toBuilder().managerEmail("nobody@example.com").build();
+
+        var result = employeeManagementDao.createEmployees(List.of(emailAsId, both, outsideBatch, manager0));
+
+        assertThat(result.get().get(0).getLeft().getErrorDetail().getFirst())
+                .extracting("field", "code").containsExactly("managerId", "ERR_MANAGER_NOT_FOUND");
+        assertThat(result.get().get(1).getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_AMBIGUOUS_MANAGER");
+        assertThat(result.get().get(2).getLeft().getErrorDetail().getFirst())
+                .extracting("field", "code").containsExactly("managerEmail", "ERR_MANAGER_NOT_FOUND");
+        assertThat(result.get().get(3).isRight()).isTrue();
+    }
+
     // ---------------- GET ALL ----------------
 
     private static <T extends Enum<?>> Query<T> defaultQuery() {
@@ -924,6 +1018,110 @@ class EmployeeManagementDaoTest {
                 .isEqualTo(dbSortedNames.getFirst());
     }
 
+    @Test
+    void getEmployees_shouldWalkAllRowsWithCursor_whenSortedByFullNameDescending() {
+        employees.forEach(this::saveEmployeeWithoutManager);
+        employeeJPARepository.flush();
+
+        SortSpec<EmployeeSortField> sortSpec =
+                SortSpec.desc(EmployeeSortField.FULL_NAME).get();
+
+        List<String> walked = walkWithCursor(List.of(sortSpec), 7);
+
+        List<String> dbIds = jdbcTemplate.query(
+                """
+                        SELECT id
+                        FROM employees
+                        ORDER BY full_name DESC, id ASC
+                        """,
+                (rs, rowNum) -> rs.getString("id")
+        );
+
+        assertThat(walked).containsExactlyElementsOf(dbIds);
+    }
+
+    @Test
+    void getEmployees_shouldWalkAllRowsWithCursor_whenSortKeysTie() {
+        // every row shares designation, so the id tiebreaker alone decides the order
+        employees.forEach(this::saveEmployeeWithoutManager);
+        employeeJPARepository.flush();
+
+        SortSpec<EmployeeSortField> sortSpec =
+                SortSpec.asc(EmployeeSortField.DESIGNATION).get();
+
+        List<String> walked = walkWithCursor(List.of(sortSpec), 10);
+
+        List<String> dbIds = jdbcTemplate.query(
+                """
+                        SELECT id
+                        FROM employees
+                        ORDER BY designation ASC, id ASC
+                        """,
+                (rs, rowNum) -> rs.getString("id")
+        );
+
+        assertThat(walked)
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(dbIds);
+    }
+
+    @Test
+    void getEmployees_shouldWalkEveryRowOnce_whenSortKeyIsNullInBothDirections() {
+        // every third row has no designation; the first page is read without a cursor, so it
+        // must already order the NULLs the way the cursor resumes them
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            employee.setDesignation(i % 3 == 0 ? null : "Designation " + (i % 4));
+            saveEmployeeWithoutManager(employee);
+        }
+        employeeJPARepository.flush();
+        List<String> allIds = employees.stream().map(Employee::getId).toList();
+
+        List<String> ascending = walkWithCursor(List.of(SortSpec.asc(EmployeeSortField.DESIGNATION).get()), 7);
+        List<String> descending = walkWithCursor(List.of(SortSpec.desc(EmployeeSortField.DESIGNATION).get()), 7);
+
+        assertThat(ascending).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(allIds);
+        assertThat(descending).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(allIds);
+        // NULLs sort as the largest value: last going up, first going down
+        assertThat(employeeJPARepository.findById(ascending.getLast()).get().getDesignation()).isNull();
+        assertThat(employeeJPARepository.findById(descending.getFirst()).get().getDesignation()).isNull();
+    }
+
+    private List<String> walkWithCursor(List<SortSpec<EmployeeSortField>> sorts, int pageSize) {
+        List<String> walked = new ArrayList<>();
+        Cursor cursor = null;
+
+        do {
+            Query<EmployeeSortField> query = Query.of(
+                    PageResult.of(0, pageSize).get(),
+                    sorts,
+                    Search.empty(),
+                    cursor
+            ).getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+
+            Either<OperationFailure, List<Employee>> result =
+                    employeeManagementDao.getEmployees(query);
+            assertThat(result.isRight()).isTrue();
+
+            List<Employee> page = result.get();
+            page.forEach(e -> walked.add(e.getId()));
+            cursor = page.size() < pageSize ? null : cursorAfter(page.getLast());
+        } while (cursor != null);
+
+        return walked;
+    }
+
+    private static Cursor cursorAfter(Employee last) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put(EmployeeSortField.CREATED_AT.name(), last.getCreatedAt().toString());
+        keys.put(EmployeeSortField.UPDATED_AT.name(), last.getUpdatedAt().toString());
+        keys.put(EmployeeSortField.FULL_NAME.name(), last.getFullName());
+        keys.put(EmployeeSortField.EMAIL.name(), last.getEmail());
+        keys.put(EmployeeSortField.DESIGNATION.name(), last.getDesignation());
+        // round-trip through the opaque form clients see
+        return Cursor.decode(new Cursor(keys, last.getId()).encode()).get();
+    }
+
     @Test
     void getEmployees_shouldReturnEmployeesMatchingFullNameSubstring() {
         // Save all employees
@@ -1186,6 +1384,228 @@ class EmployeeManagementDaoTest {
                 );
     }
 
+    @Test
+    void getEmployees_shouldProjectDetailColumnsOnly() {
+        saveEmployeeWithManager(employee0, manager0);
+
+        Search search = Search.empty();
+        search.add("email", employee0.getEmail());
+
+        Query<EmployeeSortField> query = Query.<EmployeeSortField>of(
+                PageResult.defaultPage().get(),
+                List.of(),
+                search
+        ).getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+
+        Either<OperationFailure, List<Employee>> result =
+                employeeManagementDao.getEmployees(query);
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getId()).isEqualTo(employee0.getId());
+                    assertThat(e.getManagerId()).isEqualTo(manager0.getId());
+                    assertThat(e.getAddress()).isEqualTo(employee0.getAddress());
+                    // never selected by the projection
+                    assertThat(e.getPassword()).isNull();
+                    assertThat(e.getCreatedBy()).isNull();
+                });
+    }
+
+    // ---------------- TYPED FILTERS ----------------
+
+    private static Query<EmployeeSortField> filterQuery(SearchCriterion... filters) {
+        Search search = Search.empty();
+        for (SearchCriterion filter : filters) {
+            search.filter(filter);
+        }
+        return Query.<EmployeeSortField>of(PageResult.defaultPage().get(), List.of(), search)
+                .getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+    }
+
+    @Test
+    void getEmployees_shouldMatchActiveEmployeesCreatedWithinRange() {
+        saveEmployeeWithoutManager(employee0.toBuilder().createdAt(LocalDateTime.of(2024, 3, 1, 9, 0)).build());
+        saveEmployeeWithoutManager(employee1.toBuilder().createdAt(LocalDateTime.of(2024, 6, 1, 9, 0)).isActive(false).build());
+        saveEmployeeWithoutManager(employee2.toBuilder().createdAt(LocalDateTime.of(2025, 1, 1, 0, 0)).build());
+
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(filterQuery(
+                SearchCriterion.eq("isActive", "true").get(),
+                SearchCriterion.range("createdAt", "2024-01-01T00:00:00", "2025-01-01T00:00:00").get()
+        ));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).extracting(Employee::getId).containsExactly(employee0.getId());
+    }
+
+    @Test
+    void getEmployees_shouldMatchExactEmailAndPrefixAndInFilters() {
+        saveEmployeeWithoutManager(employee0.toBuilder().fullName("Ann_Lee").designation("Architect").build());
+        saveEmployeeWithoutManager(employee1.toBuilder().fullName("Annabel Lee").designation("Developer").build());
+        saveEmployeeWithoutManager(employee2.toBuilder().fullName("Ann Smith").designation("Manager").build());
+
+        var byEmail = employeeManagementDao.getEmployees(filterQuery(SearchCriterion.eq("email", employee1.getEmail()).get()));
+        // "_" is matched literally, not as a single-character wildcard
+        var byPrefix = employeeManagementDao.getEmployees(filterQuery(SearchCriterion.prefix("fullName", "Ann_").get()));
+        var byIn = employeeManagementDao.getEmployees(filterQuery(SearchCriterion.in("designation", "Architect", "Manager").get()));
+
+        assertThat(byEmail.get()).extracting(Employee::getId).containsExactly(employee1.getId());
+        assertThat(byPrefix.get()).extracting(Employee::getId).containsExactly(employee0.getId());
+        assertThat(byIn.get()).extracting(Employee::getId)
+                .containsExactlyInAnyOrder(employee0.getId(), employee2.getId());
+    }
+
+    @Test
+    void getEmployees_shouldReturnValidationFailure_whenFilterDoesNotFitFieldType() {
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(filterQuery(
+                SearchCriterion.eq("dob", "not-a-date").get(),
+                SearchCriterion.prefix("isActive", "tr").get(),
+                SearchCriterion.eq("password", "password").get()
+        ));
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft().getErrorDetail())
+                .extracting("field", "code")
+                .containsExactlyInAnyOrder(
+                        tuple("dob", "ERR_INVALID_SEARCH_VALUE"),
+                        tuple("isActive", "ERR_INVALID_SEARCH_OPERATOR"),
+                        tuple("password", "ERR_INVALID_SEARCH_FIELD")
+                );
+    }
+
+    @Test
+    void getEmployees_shouldReturnValidationFailure_whenContainsTargetsNonTextField() {
+        Search search = Search.empty();
+        search.add("dob", "1990");
+        Query<EmployeeSortField> query = Query.<EmployeeSortField>of(PageResult.defaultPage().get(), List.of(), search)
+                .getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(query);
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft().getErrorDetail())
+                .extracting("field", "code")
+                .containsExactly(tuple("dob", "ERR_INVALID_SEARCH_OPERATOR"));
+    }
+
+    // ---------------- FREE TEXT ----------------
+
+    private static Query<EmployeeSortField> textQuery(String text) {
+        Search search = Search.empty();
+        search.text(text);
+        return Query.<EmployeeSortField>of(PageResult.defaultPage().get(), List.of(), search)
+                .getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+    }
+
+    @Test
+    void getEmployees_shouldRankNameMatchesAboveAddressMatches() {
+        saveEmployeeWithoutManager(employee0.toBuilder().fullName("Maple Jones").address("1 Oak Road").build());
+        saveEmployeeWithoutManager(employee1.toBuilder().fullName("Oak Smith").address("2 Pine Road").build());
+        saveEmployeeWithoutManager(employee2.toBuilder().fullName("Ann Birch").address("3 Elm Road").build());
+
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(textQuery("oak"));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get())
+                .extracting(Employee::getId)
+                .containsExactly(employee1.getId(), employee0.getId());
+    }
+
+    @Test
+    void getEmployees_shouldRequireEveryTextTerm() {
+        saveEmployeeWithoutManager(employee0.toBuilder().fullName("Jane Smith").designation("Architect").build());
+        saveEmployeeWithoutManager(employee1.toBuilder().fullName("Jane Doe").designation("Developer").build());
+
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(textQuery("jane, archi"));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).extracting(Employee::getId).containsExactly(employee0.getId());
+        assertThat(employeeManagementDao.countEmployees(textQuery("jane").search(), false).get()).isEqualTo(2L);
+    }
+
+    @Test
+    void getEmployees_shouldReturnValidationFailure_whenTextIsCombinedWithCriteria() {
+        Search search = Search.empty();
+        search.text("jane");
+        search.add("designation", "dev");
+        Query<EmployeeSortField> query = Query.<EmployeeSortField>of(PageResult.defaultPage().get(), List.of(), search)
+                .getOrElseThrow(f -> new RuntimeException("Failed to build query"));
+
+        Either<OperationFailure, List<Employee>> result = employeeManagementDao.getEmployees(query);
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft().getErrorDetail())
+                .extracting("field", "code")
+                .containsExactly(tuple("q", "ERR_INVALID_SEARCH"));
+    }
+
+    // ---------------- STREAM ----------------
+
+    @Test
+    void streamEmployees_shouldHandEveryMatchingEmployeeToTheSinkInSortOrder() {
+        saveEmployeeWithoutManager(employee0.toBuilder().fullName("Ann Birch").build());
+        saveEmployeeWithoutManager(employee1.toBuilder().fullName("Zoe Oak").build());
+        saveEmployeeWithoutManager(employee2.toBuilder().fullName("Mia Elm").isActive(false).build());
+        saveEmployeeWithoutManager(manager0.toBuilder().fullName("Kai Ash").build());
+
+        Search search = Search.empty();
+        search.filter(SearchCriterion.eq("isActive", "true").get());
+        List<String> names = new ArrayList<>();
+
+        Either<OperationFailure, Long> result = employeeManagementDao.streamEmployees(
+                search,
+                List.of(SortSpec.desc(EmployeeSortField.FULL_NAME).get()),
+                employee -> names.add(employee.getFullName())
+        );
+
+        assertThat(result.get()).isEqualTo(3L);
+        assertThat(names).containsExactly("Zoe Oak", "Kai Ash", "Ann Birch");
+    }
+
+    @Test
+    void streamEmployees_shouldFailBeforeStreaming_whenSearchIsInvalid() {
+        saveEmployeeWithoutManager(employee0);
+        Search search = Search.empty();
+        search.text("jane");
+        List<Employee> streamed = new ArrayList<>();
+
+        Either<OperationFailure, Long> result = employeeManagementDao.streamEmployees(search, List.of(), streamed::add);
+
+        assertThat(result.getLeft()).isInstanceOf(ValidationFailure.class);
+        assertThat(result.getLeft().getErrorDetail())
+                .extracting("field", "code")
+                .containsExactly(tuple("q", "ERR_INVALID_SEARCH"));
+        assertThat(streamed).isEmpty();
+    }
+
+    // ---------------- COUNT ----------------
+
+    @Test
+    void countEmployees_shouldCountOnlyMatchingRows() {
+        employees.forEach(this::saveEmployeeWithoutManager);
+        saveEmployeeWithoutManager(employee0.toBuilder().designation("Architect").build());
+        employeeJPARepository.flush();
+
+        Search search = Search.empty();
+        search.add("designation", "archi");
+
+        Either<OperationFailure, Long> result = employeeManagementDao.countEmployees(search, false);
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).isEqualTo(1L);
+    }
+
+    @Test
+    void countEmployees_shouldReturnPositiveEstimate_whenNoCriteriaGiven() {
+        employees.forEach(this::saveEmployeeWithoutManager);
+        employeeJPARepository.flush();
+
+        Either<OperationFailure, Long> result = employeeManagementDao.countEmployees(Search.empty(), true);
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).isPositive();
+    }
+
     // ---------------- GET BY ID ----------------
 
     @Test
@@ -1224,6 +1644,30 @@ class EmployeeManagementDaoTest {
         recreateTable();
     }
 
+    @Test
+    void getEmployeesByIds_shouldReturnEmployeesInRequestOrder_withoutMissingIds() {
+        saveEmployeeWithoutManager(employee0);
+        saveEmployeeWithoutManager(employee1);
+
+        var result = employeeManagementDao.getEmployeesByIds(
+                List.of(employee1.getId(), "does-not-exist", employee0.getId(), employee1.getId()));
+
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get()).extracting(Employee::getId)
+                .containsExactly(employee1.getId(), employee0.getId());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getEmployeesByIds_shouldHandleDatabaseErrorGracefully() {
+        destroyTable();
+
+        var result = employeeManagementDao.getEmployeesByIds(List.of(employee0.getId()));
+
+        assertThat(result.getLeft()).isInstanceOf(InfraStructureFailure.class);
+        recreateTable();
+    }
+
     // ---------------- DELETE ----------------
 
     @Test
@@ -1560,10 +2004,184 @@ class EmployeeManagementDaoTest {
         assertThat(dbManagerId).isNull();
     }
 
+    @Test
+    void updateEmployee_shouldIncrementVersion_whenExpectedVersionMatches() {
+        saveEmployeeWithoutManager(employee0);
+
+        Either<OperationFailure, Employee> result = employeeManagementDao.updateEmployee(
+                employee0.getId(),
+                Employee.builder().fullName("John Doe Updated").version(0L).build()
+        );
 
+        assertThat(result.isRight()).isTrue();
+        assertThat(result.get().getVersion()).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT version FROM employees WHERE id = ?", Long.class, employee0.getId()
+        )).isEqualTo(1L);
+    }
+
+    @Test
+    void updateEmployee_shouldReturnConflict_whenExpectedVersionIsStale() {
+        saveEmployeeWithoutManager(employee0);
+        jdbcTemplate.update("UPDATE employees SET version = 3 WHERE id = ?", employee0.getId());
+
+        Either<OperationFailure, Employee> result = employeeManagementDao.updateEmployee(
+                employee0.getId(),
+                Employee.builder().fullName("John Doe Updated").version(2L).build()
+        );
+
+        assertThat(result.isLeft()).isTrue();
+        assertThat(result.getLeft()).isInstanceOf(ResourceConflictFailure.class);
+        assertThat(result.getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_VERSION_CONFLICT");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT full_name FROM employees WHERE id = ?", String.class, employee0.getId()
+        )).isEqualTo(employee0.getFullName());
+    }
+
+
+    // ---------------- UPSERT ----------------
+
+    @Test
+    void upsertEmployee_shouldCreate_thenUpdate_thenLeaveUnchanged() {
+        var created = employeeManagementDao.upsertEmployee(employee0);
+        assertThat(created.get().outcome()).isEqualTo(UpsertResult.Outcome.CREATED);
+        assertThat(created.get().employee().getVersion()).isEqualTo(0L);
+
+        Employee renamed = employee0.toBuilder().id(UUID.randomUUID().toString()).fullName("Jane Renamed").build();
+        var updated = employeeManagementDao.upsertEmployee(renamed);
+        assertThat(updated.get().outcome()).isEqualTo(UpsertResult.Outcome.UPDATED);
+        // keyed by email: the existing employee keeps its id
+        assertThat(updated.get().employee().getId()).isEqualTo(employee0.getId());
+        assertThat(updated.get().employee().getVersion()).isEqualTo(1L);
+
+        var unchanged = employeeManagementDao.upsertEmployee(renamed);
+        assertThat(unchanged.get().outcome()).isEqualTo(UpsertResult.Outcome.UNCHANGED);
+        assertThat(unchanged.get().employee().getVersion()).isEqualTo(1L);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT full_name FROM employees WHERE email = ?", String.class, employee0.getEmail()
+        )).isEqualTo("Jane Renamed");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void upsertEmployee_shouldReportMissingManager() {
+        var result = employeeManagementDao.upsertEmployee(employee0.toBuilder().managerId("missing-manager").build());
+
+        assertThat(result.getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_MANAGER_NOT_FOUND");
+    }
+
+    @Test
+    void upsertEmployee_shouldRejectEmployeeManagingHimself() {
+        saveEmployeeWithoutManager(employee0);
+
+        var result = employeeManagementDao.upsertEmployee(employee0.toBuilder()
+                .id(UUID.randomUUID().toString())
+                .managerId(employee0.getId())
+                .build());
+
+        assertThat(result.getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_SELF_MANAGER");
+    }
+
+    // ---------------- JPA PROPERTIES ----------------
+
+    @Test
+    void entityManagerFactory_shouldPadInClauseParameters_asConfiguredForThePlanCache() {
+        // nested spring.jpa.properties keys only reach Hibernate when bound flat, as strings
+        assertThat(entityManagerFactory.getProperties())
+                .containsEntry("hibernate.query.in_clause_parameter_padding", "true");
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class)
+                .getSessionFactoryOptions()
+                .inClauseParameterPaddingEnabled()).isTrue();
+    }
+
+    // ---------------- STATEMENT COUNTS ----------------
+
+    @Test
+    void createEmployee_shouldIssueOnlyTheInsert_evenWithAManager() {
+        saveEmployeeWithoutManager(manager0);
+        Statistics statistics = statistics();
+
+        var result = employeeManagementDao.createEmployee(employee0.toBuilder().managerId(manager0.getId()).build());
+
+        assertThat(result.get().getManagerId()).isEqualTo(manager0.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    void createEmployee_shouldReportMissingManager_fromTheForeignKey() {
+        var result = employeeManagementDao.createEmployee(employee0.toBuilder().managerId("missing-manager").build());
+
+        assertThat(result.getLeft()).isInstanceOf(ValidationFailure.class);
+        assertThat(result.getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_MANAGER_NOT_FOUND");
+    }
+
+    @Test
+    void updateEmployee_shouldIssueOnlySelectAndUpdate_whenReplacingManager() {
+        saveEmployeeWithManager(employee0, manager0);
+        saveEmployeeWithoutManager(manager1);
+        Statistics statistics = statistics();
+
+        var result = employeeManagementDao.updateEmployee(
+                employee0.getId(), Employee.builder().managerId(manager1.getId()).build());
+
+        assertThat(result.get().getManagerId()).isEqualTo(manager1.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateEmployee_shouldIssueNoUpdate_whenPatchChangesNothing() {
+        saveEmployeeWithManager(employee0, manager0);
+        Statistics statistics = statistics();
+
+        var result = employeeManagementDao.updateEmployee(employee0.getId(), Employee.builder()
+                .fullName(employee0.getFullName())
+                .managerId(manager0.getId())
+                .updatedBy("no-op")
+                .build());
+
+        assertThat(result.get().getVersion()).isEqualTo(0L);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT updated_by FROM employees WHERE id = ?", String.class, employee0.getId()
+        )).isEqualTo(employee0.getUpdatedBy());
+    }
+
+    @Test
+    void updateEmployee_shouldReportMissingManager_fromTheForeignKey() {
+        saveEmployeeWithoutManager(employee0);
+
+        var result = employeeManagementDao.updateEmployee(
+                employee0.getId(), Employee.builder().managerId("missing-manager").build());
+
+        assertThat(result.getLeft().getErrorDetail().getFirst().getCode()).isEqualTo("ERR_MANAGER_NOT_FOUND");
+    }
+
+    @Test
+    void deleteEmployee_shouldIssueASingleDelete() {
+        saveEmployeeWithoutManager(employee0);
+        Statistics statistics = statistics();
+
+        assertThat(employeeManagementDao.deleteEmployee(employee0.getId()).isEmpty()).isTrue();
+        assertThat(employeeManagementDao.deleteEmployee(employee0.getId()).get())
+                .isInstanceOf(ResourceNotFoundFailure.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
 
     // ---------------- HELPERS ----------------
 
+    /**
+     * Hibernate statistics reset to zero; statements issued through {@link #jdbcTemplate} are not counted.
+     */
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
     protected void saveEmployeeWithManager(Employee employee, Employee manager) {
         saveEmployeeWithoutManager(manager);
 
@@ -1610,21 +2228,23 @@ class EmployeeManagementDaoTest {
         jdbcTemplate.execute("""
                     CREATE TABLE employees (
                         id VARCHAR(50) PRIMARY KEY,
-                        email VARCHAR(255),
+                        email VARCHAR(255) UNIQUE,
                         password VARCHAR(255),
                         full_name VARCHAR(255),
                         phone_number VARCHAR(20),
                         dob DATE,
                         is_active BOOLEAN,
                         designation VARCHAR(255),
-                        manager_id VARCHAR(50),
+                        manager_id VARCHAR(50) REFERENCES employees (id),
                         address VARCHAR(1024),
                         created_at TIMESTAMP,
                         updated_at TIMESTAMP,
                         created_by VARCHAR(50),
-                        updated_by VARCHAR(50)
+                        updated_by VARCHAR(50),
+                        version BIGINT DEFAULT 0 NOT NULL
                     )
                 """);
+        searchSchema.install();
     }
 
     private void destroyTable() {
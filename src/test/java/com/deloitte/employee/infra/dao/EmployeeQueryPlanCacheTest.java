@@ -0,0 +1,94 @@
+package com.deloitte.employee.infra.dao;
+
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SearchCriterion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeQueryPlanCacheTest {
+
+    private static final List<EmployeeQueryPlanCache.SortShape> BY_NAME =
+            List.of(new EmployeeQueryPlanCache.SortShape("fullName", true));
+
+    private MeterRegistry registry;
+    private EmployeeQueryPlanCache sut;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        sut = new EmployeeQueryPlanCache(
+                new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class));
+    }
+
+    private static Search search(String designation, String email) {
+        Search search = Search.empty();
+        search.add("designation", designation);
+        search.filter(SearchCriterion.eq("email", email).get());
+        return search;
+    }
+
+    private double lookups(String result) {
+        return registry.get("employee.query.plan.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    void plan_shouldBeSharedByQueriesThatDifferOnlyInValues() {
+        var first = sut.plan(EmployeeQueryPlanCache.shapeOf(search("dev", "a@example.com"), BY_NAME, null, false));
+        var second = sut.plan(EmployeeQueryPlanCache.shapeOf(search("arch", "b@example.com"), BY_NAME, null, false));
+
+        assertThat(second).isSameAs(first);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void plan_shouldDifferWhenSortDirectionOrCursorNullsDiffer() {
+        var ascending = EmployeeQueryPlanCache.shapeOf(Search.empty(), BY_NAME, null, false);
+        var descending = EmployeeQueryPlanCache.shapeOf(
+                Search.empty(), List.of(new EmployeeQueryPlanCache.SortShape("fullName", false)), null, false);
+        var afterValue = EmployeeQueryPlanCache.shapeOf(Search.empty(), BY_NAME, List.of("Jane"), false);
+        var afterNull = EmployeeQueryPlanCache.shapeOf(Search.empty(), BY_NAME, Arrays.asList((Object) null), false);
+
+        assertThat(Set.of(ascending, descending, afterValue, afterNull)).hasSize(4);
+        assertThat(sut.plan(afterNull).select()).doesNotContain(":k0");
+        assertThat(sut.plan(afterValue).select())
+                .contains("e.fullName > :k0")
+                .contains("ORDER BY e.fullName ASC NULLS LAST, e.id ASC");
+    }
+
+    @Test
+    void plan_shouldOrderNullsLikeTheSeek_evenWithoutCursor() {
+        var ascending = sut.plan(EmployeeQueryPlanCache.shapeOf(Search.empty(), BY_NAME, null, false));
+        var descending = sut.plan(EmployeeQueryPlanCache.shapeOf(
+                Search.empty(), List.of(new EmployeeQueryPlanCache.SortShape("fullName", false)), null, false));
+
+        assertThat(ascending.select()).endsWith("ORDER BY e.fullName ASC NULLS LAST, e.id ASC");
+        assertThat(descending.select()).endsWith("ORDER BY e.fullName DESC NULLS FIRST, e.id ASC");
+    }
+
+    @Test
+    void parameters_shouldBindEveryNamedParameterOfThePlan() {
+        Search search = search("Dev", "a@example.com");
+        search.filter(SearchCriterion.range("createdAt", "2024-01-01T00:00:00", null).get());
+        search.filter(SearchCriterion.prefix("fullName", "50%_").get());
+
+        var plan = sut.plan(EmployeeQueryPlanCache.shapeOf(search, BY_NAME, List.of("Jane"), true));
+        var parameters = EmployeeQueryPlanCache.parameters(search, List.of("Jane"), "id-1", Set.of("id-2"));
+
+        assertThat(parameters).containsOnlyKeys("c0", "f0", "f1from", "f2", "candidates", "k0", "lastId");
+        parameters.keySet().forEach(name -> assertThat(plan.select()).contains(":" + name));
+        assertThat(parameters.get("c0")).isEqualTo("%dev%");
+        assertThat(parameters.get("f2")).isEqualTo("50\\%\\_%");
+        assertThat(plan.count()).doesNotContain(":k0").doesNotContain("ORDER BY");
+    }
+}
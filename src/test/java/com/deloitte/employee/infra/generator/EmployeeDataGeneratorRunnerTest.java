@@ -0,0 +1,86 @@
+package com.deloitte.employee.infra.generator;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeDataGeneratorRunnerTest {
+
+    private final EmployeeDataGenerator generator = new EmployeeDataGenerator(42, 1_000, 5);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final List<String> inserted = new ArrayList<>();
+
+    private EmployeeDataGeneratorRunner sut;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        sut = new EmployeeDataGeneratorRunner(jdbcTemplate, mock(PlatformTransactionManager.class),
+                new EmployeeManagementProperties(), mock(ApplicationContext.class));
+        // the batch list is reused after the call, so its ids are copied out
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Employee> batch = invocation.getArgument(1);
+                    batch.forEach(employee -> inserted.add(employee.getId()));
+                    return new int[0][];
+                });
+    }
+
+    private void present(long rows) {
+        Set<String> ids = LongStream.range(0, rows).mapToObj(generator::id).collect(Collectors.toSet());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), anyString()))
+                .thenAnswer(invocation -> ids.contains((String) invocation.getArgument(2)) ? 1 : 0);
+    }
+
+    @Test
+    void generate_shouldResumeAfterRowsOfAnInterruptedRun() {
+        present(300);
+
+        assertThat(sut.generate(generator, 128)).isEqualTo(700);
+
+        assertThat(inserted).hasSize(700);
+        assertThat(inserted.getFirst()).isEqualTo(generator.id(300));
+        assertThat(inserted.getLast()).isEqualTo(generator.id(999));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generate_shouldInsertNothing_whenDatasetIsComplete() {
+        present(1_000);
+
+        assertThat(sut.generate(generator, 128)).isZero();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void firstMissing_shouldFindEndOfPrefix_atEitherBoundary() {
+        present(0);
+        assertThat(sut.firstMissing(generator)).isZero();
+
+        present(999);
+        assertThat(sut.firstMissing(generator)).isEqualTo(999);
+    }
+}
@@ -0,0 +1,62 @@
+package com.deloitte.employee.infra.generator;
+
+import com.deloitte.employee.domain.entities.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeDataGeneratorTest {
+
+    @Test
+    void employee_shouldBeDeterminedBySeedAndIndex() {
+        var generator = new EmployeeDataGenerator(7, 1_000, 5);
+
+        assertThat(new EmployeeDataGenerator(7, 1_000, 5).employee(123)).isEqualTo(generator.employee(123));
+        assertThat(new EmployeeDataGenerator(8, 1_000, 5).employee(123).getFullName() + "|"
+                + new EmployeeDataGenerator(8, 1_000, 5).employee(123).getAddress())
+                .isNotEqualTo(generator.employee(123).getFullName() + "|" + generator.employee(123).getAddress());
+    }
+
+    @Test
+    void employees_shouldFormHierarchyWithGivenSpanOfControl() {
+        var generator = new EmployeeDataGenerator(42, 1_000, 5);
+        var employees = LongStream.range(0, 1_000).mapToObj(generator::employee).toList();
+
+        Map<String, Long> reports = employees.stream()
+                .filter(e -> e.getManagerId() != null)
+                .collect(Collectors.groupingBy(Employee::getManagerId, Collectors.counting()));
+        Set<String> seen = new HashSet<>();
+        for (Employee employee : employees) {
+            // managers come first, so rows can be inserted in order under a foreign key
+            assertThat(employee.getManagerId() == null || seen.contains(employee.getManagerId())).isTrue();
+            seen.add(employee.getId());
+        }
+
+        assertThat(employees.getFirst().getManagerId()).isNull();
+        assertThat(reports.values()).allMatch(count -> count <= 5);
+        // 1 + 5 + 25 + 125 + 625 employees fill levels 0..4
+        assertThat(generator.level(780)).isEqualTo(4);
+        assertThat(generator.level(781)).isEqualTo(5);
+        assertThat(employees).extracting(Employee::getEmail).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void employees_shouldSpreadOverDesignationsSkewedTowardsEngineers() {
+        var generator = new EmployeeDataGenerator(42, 10_000, 8);
+
+        Map<String, Long> designations = LongStream.range(0, 10_000)
+                .mapToObj(generator::employee)
+                .collect(Collectors.groupingBy(Employee::getDesignation, Collectors.counting()));
+
+        assertThat(designations).containsKeys("Software Engineer", "Engineering Manager", "QA Engineer");
+        assertThat(designations.get("Software Engineer")).isGreaterThan(designations.get("QA Engineer"));
+        assertThat(designations.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(10_000);
+        assertThat(designations).hasSizeGreaterThan(10);
+    }
+}
@@ -0,0 +1,77 @@
+package com.deloitte.employee.infra.index;
+
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.enums.EmployeeSuggestField;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.domain.valueobject.Suggestion;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EmployeePrefixIndexTest {
+
+    private EmployeePrefixIndex sut;
+
+    @BeforeEach
+    void setup() {
+        sut = new EmployeePrefixIndex(mock(JdbcTemplate.class), mock(InvalidationBus.class));
+
+        sut.put("1", Map.of(EmployeeSuggestField.FULL_NAME, "Jane Smith", EmployeeSuggestField.EMAIL, "jane@example.com"));
+        sut.put("2", Map.of(EmployeeSuggestField.FULL_NAME, "Jack Davis", EmployeeSuggestField.EMAIL, "jack@example.com"));
+        sut.put("3", Map.of(EmployeeSuggestField.FULL_NAME, "jane doe", EmployeeSuggestField.EMAIL, "doe@example.com"));
+    }
+
+    private List<Suggestion> suggest(EmployeeSuggestField field, String prefix, int limit) {
+        return sut.suggest(field, prefix, limit).get();
+    }
+
+    @Test
+    void suggest_shouldReturnCaseInsensitivePrefixMatchesInOrder() {
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "JA", 10))
+                .extracting(Suggestion::value)
+                .containsExactly("Jack Davis", "jane doe", "Jane Smith");
+    }
+
+    @Test
+    void suggest_shouldHonourLimit() {
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "jan", 1))
+                .containsExactly(new Suggestion("3", "jane doe"));
+    }
+
+    @Test
+    void suggest_shouldSearchOnlyTheRequestedField() {
+        assertThat(suggest(EmployeeSuggestField.EMAIL, "doe", 10))
+                .containsExactly(new Suggestion("3", "doe@example.com"));
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "doe", 10)).isEmpty();
+    }
+
+    @Test
+    void onEmployeeChanged_shouldReplacePreviousValue() {
+        sut.onEmployeeChanged(EmployeeChangedEvent.updated(Employee.builder()
+                .id("2")
+                .fullName("Zoe Davis")
+                .email("jack@example.com")
+                .build()));
+
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "jack", 10)).isEmpty();
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "zoe", 10))
+                .containsExactly(new Suggestion("2", "Zoe Davis"));
+        assertThat(suggest(EmployeeSuggestField.EMAIL, "jack", 10)).hasSize(1);
+    }
+
+    @Test
+    void onEmployeeChanged_shouldDropDeletedEmployee() {
+        sut.onEmployeeChanged(EmployeeChangedEvent.deleted("1"));
+
+        assertThat(suggest(EmployeeSuggestField.FULL_NAME, "jane", 10))
+                .extracting(Suggestion::id)
+                .containsExactly("3");
+    }
+}
@@ -0,0 +1,118 @@
+package com.deloitte.employee.infra.index;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.events.EmployeeChangedEvent;
+import com.deloitte.employee.infra.invalidation.EmployeeInvalidation;
+import com.deloitte.employee.infra.invalidation.InvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeTrigramIndexTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private EmployeeTrigramIndex sut;
+
+    @BeforeEach
+    void setup() {
+        EmployeeManagementProperties properties = new EmployeeManagementProperties();
+        properties.getSearchIndex().setEnabled(true);
+
+        sut = new EmployeeTrigramIndex(jdbcTemplate, properties, mock(InvalidationBus.class));
+        sut.build();
+
+        sut.put("1", Map.of("fullName", "Jane Smith", "designation", "Developer"));
+        sut.put("2", Map.of("fullName", "John Smithers", "designation", "Manager"));
+        sut.put("3", Map.of("fullName", "Alice Jones", "designation", "Developer"));
+    }
+
+    @Test
+    void candidates_shouldReturnIdsHoldingEveryTrigram() {
+        assertThat(sut.candidates(Map.of("fullName", "SMITH")).get()).containsExactlyInAnyOrder("1", "2");
+    }
+
+    @Test
+    void candidates_shouldIntersectAcrossCriteria() {
+        var result = sut.candidates(Map.of("fullName", "smith", "designation", "develop"));
+
+        assertThat(result.get()).containsExactly("1");
+    }
+
+    @Test
+    void candidates_shouldReturnEmptySet_whenTrigramIsUnknown() {
+        assertThat(sut.candidates(Map.of("fullName", "xyz")).get()).isEmpty();
+    }
+
+    @Test
+    void candidates_shouldNotAnswer_whenTermIsShorterThanTrigram() {
+        assertThat(sut.candidates(Map.of("fullName", "sm")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void candidates_shouldNotAnswer_whenFieldIsNotIndexed() {
+        assertThat(sut.candidates(Map.of("password", "secret")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void candidates_shouldNotAnswer_whenIndexIsDisabled() {
+        var disabled = new EmployeeTrigramIndex(mock(JdbcTemplate.class), new EmployeeManagementProperties(), mock(InvalidationBus.class));
+        disabled.build();
+
+        assertThat(disabled.candidates(Map.of("fullName", "smith")).isEmpty()).isTrue();
+    }
+
+    @Test
+    void onEmployeeChanged_shouldReindexUpdatedValues() {
+        sut.onEmployeeChanged(EmployeeChangedEvent.updated(Employee.builder()
+                .id("1")
+                .fullName("Jane Doe")
+                .designation("Developer")
+                .build()));
+
+        assertThat(sut.candidates(Map.of("fullName", "smith")).get()).containsExactly("2");
+        assertThat(sut.candidates(Map.of("fullName", "doe")).get()).containsExactly("1");
+    }
+
+    @Test
+    void onEmployeeChanged_shouldUnindexDeletedEmployee() {
+        sut.onEmployeeChanged(EmployeeChangedEvent.deleted("2"));
+
+        assertThat(sut.candidates(Map.of("fullName", "smith")).get()).isEqualTo(Set.of("1"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onRemoteInvalidation_shouldReloadRowWrittenOnAnotherNode() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("4")))
+                .thenReturn(List.of(Map.of("fullName", "Bob Smithson", "designation", "Tester")));
+
+        sut.onRemoteInvalidation(new EmployeeInvalidation("other-node", "4", Instant.now()));
+
+        assertThat(sut.candidates(Map.of("fullName", "smith")).get()).containsExactlyInAnyOrder("1", "2", "4");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onRemoteInvalidation_shouldUnindexRowDeletedOnAnotherNode() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq("2"))).thenReturn(List.of());
+
+        sut.onRemoteInvalidation(new EmployeeInvalidation("other-node", "2", Instant.now()));
+
+        assertThat(sut.candidates(Map.of("fullName", "smith")).get()).containsExactly("1");
+    }
+}
@@ -0,0 +1,57 @@
+package com.deloitte.employee.infra.invalidation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresInvalidationBusTest {
+
+    private static final Instant PUBLISHED_AT = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @Test
+    void parse_shouldReadBackFormattedPayload() {
+        var payloads = PostgresInvalidationBus.payloads("node-1", PUBLISHED_AT, List.of("emp 42", "emp-43"));
+
+        assertThat(payloads).hasSize(1);
+        assertThat(PostgresInvalidationBus.parse(payloads.getFirst())).containsExactly(
+                new EmployeeInvalidation("node-1", "emp 42", PUBLISHED_AT),
+                new EmployeeInvalidation("node-1", "emp-43", PUBLISHED_AT));
+    }
+
+    @Test
+    void parse_shouldReadPayloadWithoutIdsAsEverything() {
+        var parsed = PostgresInvalidationBus.parse("node-1 1700000000000 ");
+
+        assertThat(parsed).singleElement().satisfies(invalidation -> {
+            assertThat(invalidation.isEverything()).isTrue();
+            assertThat(invalidation.nodeId()).isEqualTo("node-1");
+        });
+    }
+
+    @Test
+    void payloads_shouldSplitIdsThatExceedThePayloadLimit() {
+        List<String> ids = IntStream.range(0, 500)
+                .mapToObj(i -> "00000000-0000-0000-0000-%012d".formatted(i))
+                .toList();
+
+        var payloads = PostgresInvalidationBus.payloads("node-1", PUBLISHED_AT, ids);
+
+        assertThat(payloads).hasSizeGreaterThan(1).allSatisfy(payload -> assertThat(
+                payload.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(PostgresInvalidationBus.MAX_PAYLOAD_BYTES));
+        assertThat(payloads.stream().flatMap(payload -> PostgresInvalidationBus.parse(payload).stream()))
+                .extracting(EmployeeInvalidation::employeeId)
+                .containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void parse_shouldIgnoreMalformedPayload() {
+        assertThat(PostgresInvalidationBus.parse("node-1 yesterday emp-1")).isEmpty();
+        assertThat(PostgresInvalidationBus.parse("node-1")).isEmpty();
+        assertThat(PostgresInvalidationBus.parse(null)).isEmpty();
+    }
+}
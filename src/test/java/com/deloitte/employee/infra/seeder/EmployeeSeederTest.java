@@ -0,0 +1,134 @@
+package com.deloitte.employee.infra.seeder;
+
+import com.deloitte.employee.application.config.EmployeeManagementProperties;
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.infra.entities.SeedRunJPAEntity;
+import com.deloitte.employee.infra.repositories.SeedRunJPARepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class EmployeeSeederTest {
+
+    private static final String SEED_FILE = "classpath:content/employees.json";
+
+    private IEmployeeManagementDao dao;
+    private SeedRunJPARepository seedRuns;
+    private EmployeeManagementProperties properties;
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        dao = mock(IEmployeeManagementDao.class);
+        seedRuns = mock(SeedRunJPARepository.class);
+        properties = new EmployeeManagementProperties();
+        properties.getSeed().setEnabled(true);
+        properties.getSeed().setChunkSize(8);
+        registry = new SimpleMeterRegistry();
+        when(dao.createEmployees(anyList())).thenAnswer(invocation -> Either.right(invocation
+                .<List<Employee>>getArgument(0).stream()
+                .map(Either::<OperationFailure, Employee>right)
+                .toList()));
+    }
+
+    private EmployeeSeeder sut() {
+        var mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        var meterRegistry = new StaticListableBeanFactory(Map.of("meterRegistry", registry))
+                .getBeanProvider(MeterRegistry.class);
+        return new EmployeeSeeder(dao, mapper, properties, seedRuns, new DefaultResourceLoader(),
+                new SimpleAsyncTaskExecutor(), meterRegistry);
+    }
+
+    @Test
+    void seedEmployees_shouldCreateInChunksAndRecordChecksum() throws Exception {
+        String checksum = sha256(SEED_FILE);
+        when(seedRuns.findById(SEED_FILE)).thenReturn(Optional.empty());
+        var sut = sut();
+
+        sut.seedEmployees();
+
+        // 30 bundled employees in chunks of 8
+        verify(dao, times(4)).createEmployees(anyList());
+        verify(seedRuns).save(argThat(run -> run.getChecksum().equals(checksum)));
+        assertThat(sut.state()).isEqualTo(EmployeeSeeder.State.COMPLETED);
+        assertThat(registry.get("employee.seed.records").tag("result", "created").counter().count())
+                .isEqualTo(30.0);
+    }
+
+    @Test
+    void seedEmployees_shouldSkipUnchangedSeedData() {
+        when(seedRuns.findById(SEED_FILE)).thenReturn(Optional.empty());
+        sut().seedEmployees();
+        ArgumentCaptor<SeedRunJPAEntity> recorded = ArgumentCaptor.forClass(SeedRunJPAEntity.class);
+        verify(seedRuns).save(recorded.capture());
+        clearInvocations(dao);
+
+        when(seedRuns.findById(SEED_FILE)).thenReturn(Optional.of(recorded.getValue()));
+        var restarted = sut();
+        restarted.seedEmployees();
+
+        verifyNoInteractions(dao);
+        assertThat(restarted.state()).isEqualTo(EmployeeSeeder.State.SKIPPED);
+    }
+
+    @Test
+    void seedEmployees_shouldOnlyRecordNewFileTime_whenContentIsUnchanged() throws Exception {
+        when(seedRuns.findById(SEED_FILE)).thenReturn(Optional.of(SeedRunJPAEntity.builder()
+                .resource(SEED_FILE)
+                .checksum(sha256(SEED_FILE))
+                .contentLength(new DefaultResourceLoader().getResource(SEED_FILE).contentLength())
+                .lastModified(1L)
+                .build()));
+        var sut = sut();
+
+        sut.seedEmployees();
+
+        verifyNoInteractions(dao);
+        verify(seedRuns).save(argThat(run -> run.getLastModified() != 1L));
+        assertThat(sut.state()).isEqualTo(EmployeeSeeder.State.SKIPPED);
+    }
+
+    @Test
+    void seedEmployees_shouldApplyAgain_whenContentChanged() throws Exception {
+        when(seedRuns.findById(SEED_FILE)).thenReturn(Optional.of(SeedRunJPAEntity.builder()
+                .resource(SEED_FILE)
+                .checksum("0".repeat(64))
+                .contentLength(new DefaultResourceLoader().getResource(SEED_FILE).contentLength())
+                .lastModified(1L)
+                .build()));
+        var sut = sut();
+        String checksum = sha256(SEED_FILE);
+
+        sut.seedEmployees();
+
+        verify(dao, times(4)).createEmployees(anyList());
+        verify(seedRuns).save(argThat(run -> run.getChecksum().equals(checksum)));
+        assertThat(sut.state()).isEqualTo(EmployeeSeeder.State.COMPLETED);
+    }
+
+    private static String sha256(String location) throws Exception {
+        try (InputStream in = new DefaultResourceLoader().getResource(location).getInputStream()) {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.deloitte.employee.infra.seeder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedFileInputStreamTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_shouldReturnTheWholeFileAcrossWindowBoundaries() throws Exception {
+        byte[] content = new byte[10_000];
+        new Random(7).nextBytes(content);
+        Path file = Files.write(dir.resolve("seed.json"), content);
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        try (var in = new MappedFileInputStream(file, 4096)) {
+            copy.write(in.read());
+            byte[] buffer = new byte[3000];
+            for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+                copy.write(buffer, 0, n);
+            }
+            assertThat(in.read()).isEqualTo(-1);
+        }
+
+        assertThat(copy.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void read_shouldReportEndOfEmptyFile() throws Exception {
+        Path file = Files.write(dir.resolve("empty.json"), new byte[0]);
+
+        try (var in = new MappedFileInputStream(file)) {
+            assertThat(in.read(new byte[16])).isEqualTo(-1);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.deloitte.employee.presentation.controller;
+
+import com.deloitte.employee.domain.entities.Employee;
+import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
+import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.EmployeeUpsertResult;
+import com.deloitte.employee.presentation.mapper.EmployeeDataMapper;
+import com.deloitte.employee.presentation.service.IEmployeeManagementService;
+import com.deloitte.employee.presentation.service.ResponseMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeManagementControllerTest {
+
+    private IEmployeeManagementService employeeManagementService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        employeeManagementService = mock(IEmployeeManagementService.class);
+        var controller = new EmployeeManagementController(
+                employeeManagementService,
+                mock(ResponseMapper.class),
+                new SimpleAsyncTaskExecutor()
+        );
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    /**
+     * The stored employee is mapped by the real mapper, as the service does after the upsert.
+     */
+    private static EmployeeDetail stored(EmployeeDetailInput input, String email) {
+        Employee employee = new EmployeeDataMapper().toEntity(input).toBuilder()
+                .email(email)
+                .isActive(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .version(0L)
+                .build();
+        return new EmployeeDataMapper().toDetail(employee);
+    }
+
+    @Test
+    void upsertByEmail_shouldAnswerEmployeeWithoutDob() throws Exception {
+        when(employeeManagementService.upsertEmployee(eq("jane@example.com"), any())).thenAnswer(invocation ->
+                EmployeeUpsertResult.builder()
+                        .outcome("CREATED")
+                        .employee(stored(invocation.getArgument(1), invocation.getArgument(0)))
+                        .build());
+
+        mockMvc.perform(put("/employees/by-email/jane@example.com")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "fullName": "Jane Doe",
+                                  "password": "StrongPass#1",
+                                  "phoneNumber": "+1-510-555-1006",
+                                  "designation": "DevOps Engineer"
+                                }
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.outcome").value("CREATED"))
+                .andExpect(jsonPath("$.employee.email").value("jane@example.com"))
+                .andExpect(jsonPath("$.employee.dob").doesNotExist());
+    }
+}
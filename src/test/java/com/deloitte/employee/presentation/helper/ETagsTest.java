@@ -0,0 +1,44 @@
+package com.deloitte.employee.presentation.helper;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+    @Test
+    void of_shouldBeStableAndSensitiveToEveryPart() {
+        String etag = ETags.of("id-1", "2024-03-02T11:04:10");
+
+        assertThat(etag).isEqualTo(ETags.of("id-1", "2024-03-02T11:04:10")).startsWith("\"").endsWith("\"");
+        assertThat(etag).isNotEqualTo(ETags.of("id-1", "2024-03-02T11:04:11"));
+        assertThat(ETags.of("ab", "c")).isNotEqualTo(ETags.of("a", "bc"));
+    }
+
+    @Test
+    void isNotModified_shouldMatchAnyListedTagWeaklyOrWildcard() {
+        String etag = ETags.of("v1");
+
+        assertThat(ETags.isNotModified("\"other\", W/" + etag, etag, HttpMethod.POST)).isTrue();
+        assertThat(ETags.isNotModified("*", etag, HttpMethod.GET)).isTrue();
+        assertThat(ETags.isNotModified("\"other\"", etag, HttpMethod.GET)).isFalse();
+        assertThat(ETags.isNotModified(null, etag, HttpMethod.GET)).isFalse();
+    }
+
+    @Test
+    void isNotModified_shouldNotTreatWildcardAsNotModified_forUnsafeMethods() {
+        String etag = ETags.of("v1");
+
+        assertThat(ETags.isNotModified("*", etag, HttpMethod.POST)).isFalse();
+        assertThat(ETags.isNotModified("*, " + etag, etag, HttpMethod.POST)).isTrue();
+    }
+
+    @Test
+    void parseVersion_shouldReadBackVersionTagOnly() {
+        assertThat(ETags.parseVersion(" " + ETags.version(7L) + " ").get()).isEqualTo(7L);
+        assertThat(ETags.parseVersion("W/\"7\"").isEmpty()).isTrue();
+        assertThat(ETags.parseVersion(ETags.of("v1")).isEmpty()).isTrue();
+        assertThat(ETags.parseVersion("\"99999999999999999999\"").isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,38 @@
+package com.deloitte.employee.presentation.mapper;
+
+import com.deloitte.employee.domain.failure.OperationFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
+import com.deloitte.employee.domain.mapper.ExceptionMapper;
+import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.exception.AppException;
+import com.deloitte.employee.presentation.exception.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static com.deloitte.employee.helper.TestUtils.mockExceptionMapper;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.Mockito.*;
+
+class QueryMapperTest {
+
+    private final QueryMapper sut = new QueryMapper();
+
+    @Test
+    void transform_shouldRejectMalformedCursor() {
+        ExceptionMapper<AppException> exceptionMapper = mockExceptionMapper();
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.mapAndThrow(any())).thenThrow(mapped);
+        QueryRequest request = QueryRequest.builder().cursor("not-a-cursor").build();
+
+        assertThatThrownBy(() -> sut.transform(request, exceptionMapper)).isSameAs(mapped);
+
+        ArgumentCaptor<OperationFailure> failure = ArgumentCaptor.forClass(OperationFailure.class);
+        verify(exceptionMapper).mapAndThrow(failure.capture());
+        assertThat(failure.getValue()).isInstanceOf(ValidationFailure.class);
+        assertThat(failure.getValue().getErrorDetail())
+                .extracting("field", "code")
+                .containsExactly(tuple("cursor", "ERR_INVALID_CURSOR"));
+    }
+}
@@ -3,29 +3,56 @@ package com.deloitte.employee.presentation.service.impl;
 import com.deloitte.employee.domain.entities.Employee;
 import com.deloitte.employee.domain.entities.ErrorDetail;
 import com.deloitte.employee.domain.enums.EmployeeSortField;
+import com.deloitte.employee.domain.enums.EmployeeSuggestField;
 import com.deloitte.employee.domain.failure.OperationFailure;
 import com.deloitte.employee.domain.failure.SystemFailure;
+import com.deloitte.employee.domain.failure.ValidationFailure;
 import com.deloitte.employee.domain.mapper.ExceptionMapper;
+import com.deloitte.employee.domain.repository.IEmployeeCollectionVersion;
 import com.deloitte.employee.domain.repository.IEmployeeManagementDao;
+import com.deloitte.employee.domain.repository.IEmployeeSuggestionIndex;
+import com.deloitte.employee.domain.valueobject.PageResult;
 import com.deloitte.employee.domain.valueobject.Query;
+import com.deloitte.employee.domain.valueobject.Search;
+import com.deloitte.employee.domain.valueobject.SortSpec;
+import com.deloitte.employee.domain.valueobject.Suggestion;
+import com.deloitte.employee.domain.valueobject.UpsertResult;
 import com.deloitte.employee.presentation.dto.request.EmployeeDetailInput;
 import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.dto.response.EmployeeBatchResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeByIdsResult;
 import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import com.deloitte.employee.presentation.dto.response.EmployeeExport;
+import com.deloitte.employee.presentation.dto.response.EmployeeImportResult;
+import com.deloitte.employee.presentation.dto.response.EmployeeSuggestion;
+import com.deloitte.employee.presentation.dto.response.EmployeeUpsertResult;
 import com.deloitte.employee.presentation.exception.AppException;
 import com.deloitte.employee.presentation.exception.ErrorCode;
 import com.deloitte.employee.presentation.exception.ErrorResponse;
+import com.deloitte.employee.presentation.helper.EmployeeExportFormat;
+import com.deloitte.employee.presentation.helper.validation.CreateGroup;
 import com.deloitte.employee.presentation.mapper.EmployeeDataMapper;
 import com.deloitte.employee.presentation.mapper.QueryMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.control.Either;
 import io.vavr.control.Option;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 
 import static com.deloitte.employee.helper.TestUtils.mockExceptionMapper;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +62,9 @@ class EmployeeManagementServiceTest {
     private EmployeeDataMapper employeeDataMapper;
     private ExceptionMapper<AppException> exceptionMapper;
     private QueryMapper queryMapper;
+    private IEmployeeSuggestionIndex suggestionIndex;
+    private IEmployeeCollectionVersion collectionVersion;
+    private Validator validator;
     private EmployeeManagementService sut;
 
     @BeforeEach
@@ -42,12 +72,19 @@ class EmployeeManagementServiceTest {
         employeeRepository = mock(IEmployeeManagementDao.class);
         employeeDataMapper = mock(EmployeeDataMapper.class);
         queryMapper = mock(QueryMapper.class);
+        suggestionIndex = mock(IEmployeeSuggestionIndex.class);
+        collectionVersion = mock(IEmployeeCollectionVersion.class);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
         exceptionMapper = mockExceptionMapper();
         sut = new EmployeeManagementService(
                 employeeRepository,
                 employeeDataMapper,
                 exceptionMapper,
-                queryMapper
+                queryMapper,
+                suggestionIndex,
+                collectionVersion,
+                validator,
+                new ObjectMapper()
         );
     }
 
@@ -137,6 +174,225 @@ class EmployeeManagementServiceTest {
         verify(exceptionMapper, times(1)).map(failure);
     }
 
+    @Test
+    void getEmployeesByIds_shouldReturnFoundEmployeesAndReportMissingIds() {
+        Employee jane = Employee.builder().id("1").fullName("Jane").email("jane@gmail.com").build();
+        when(employeeRepository.getEmployeesByIds(List.of("9", "1", "9")))
+                .thenReturn(Either.right(List.of(jane)));
+        when(employeeDataMapper.toDetail(jane)).thenReturn(EmployeeDetail.builder().id("1").build());
+
+        EmployeeByIdsResult result = sut.getEmployeesByIds(List.of("9", "1", "9"));
+
+        assertEquals(List.of("1"), result.getEmployees().stream().map(EmployeeDetail::getId).toList());
+        assertEquals(List.of("9"), result.getMissingIds());
+    }
+
+    @Test
+    void getEmployeesByIds_shouldRejectEmptyIdList() {
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        assertThatThrownBy(() -> sut.getEmployeesByIds(List.of())).isSameAs(mapped);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void upsertEmployee_shouldUpsertByPathEmailAndReportOutcome() {
+        EmployeeDetailInput input = EmployeeDetailInput.builder()
+                .fullName("Jane Doe")
+                .password("secret123")
+                .phoneNumber("1234567890")
+                .designation("Developer")
+                .build();
+        Employee mapped = Employee.builder().email("jane@example.com").build();
+        Employee stored = Employee.builder().id("1").email("jane@example.com").build();
+        when(employeeDataMapper.toEntity(any(EmployeeDetailInput.class))).thenReturn(mapped);
+        when(employeeRepository.upsertEmployee(mapped))
+                .thenReturn(Either.right(new UpsertResult(stored, UpsertResult.Outcome.UPDATED)));
+        when(employeeDataMapper.toDetail(stored)).thenReturn(EmployeeDetail.builder().id("1").build());
+
+        EmployeeUpsertResult result = sut.upsertEmployee("jane@example.com", input);
+
+        assertEquals("UPDATED", result.getOutcome());
+        assertEquals("1", result.getEmployee().getId());
+        verify(employeeDataMapper).toEntity(argThat(e -> "jane@example.com".equals(e.getEmail())));
+    }
+
+    @Test
+    void upsertEmployee_shouldRejectBodyEmailOtherThanPathEmail() {
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        assertThatThrownBy(() -> sut.upsertEmployee(
+                "jane@example.com", EmployeeDetailInput.builder().email("john@example.com").build()
+        )).isSameAs(mapped);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    void queryKey_shouldBeEqualForRequestsReadingTheSameRows() {
+        QueryRequest implicit = QueryRequest.builder().search(Map.of("fullName", "Jane", "designation", "Dev")).build();
+        QueryRequest explicit = QueryRequest.builder().search(Map.of("designation", "dev", "fullName", "JANE")).build();
+        QueryRequest other = QueryRequest.builder().search(Map.of("fullName", "john")).build();
+        when(queryMapper.transform(eq(implicit), eq(exceptionMapper))).thenReturn(query(List.of(), "fullName", "Jane", "designation", "Dev"));
+        when(queryMapper.transform(eq(explicit), eq(exceptionMapper))).thenReturn(
+                query(EmployeeSortField.defaultSorts(), "designation", "dev", "fullName", "JANE"));
+        when(queryMapper.transform(eq(other), eq(exceptionMapper))).thenReturn(query(List.of(), "fullName", "john"));
+
+        assertEquals(sut.queryKey(implicit), sut.queryKey(explicit));
+        assertFalse(sut.queryKey(implicit).equals(sut.queryKey(other)));
+    }
+
+    private static Query<EmployeeSortField> query(List<SortSpec<EmployeeSortField>> sorts, String... criteria) {
+        Search search = Search.empty();
+        for (int i = 0; i < criteria.length; i += 2) {
+            search.add(criteria[i], criteria[i + 1]);
+        }
+        return Query.of(PageResult.of(0, 20).get(), sorts, search).get();
+    }
+
+    @Test
+    void exportEmployees_shouldStreamCsvRowsWithQuotedFields() throws Exception {
+        QueryRequest request = new QueryRequest();
+        Query<EmployeeSortField> defaultQuery = Query.<EmployeeSortField>defaultQuery()
+                .getOrElseThrow(() -> new RuntimeException("default query failed"));
+        Employee jane = Employee.builder().id("1").fullName("Doe, Jane").build();
+        when(queryMapper.transform(eq(request), eq(exceptionMapper))).thenReturn(defaultQuery);
+        when(employeeRepository.validateStream(defaultQuery.search())).thenReturn(Option.none());
+        when(employeeRepository.streamEmployees(eq(defaultQuery.search()), eq(defaultQuery.sorts()), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<Employee> sink = invocation.getArgument(2);
+                    sink.accept(jane);
+                    return Either.right(1L);
+                });
+        when(employeeDataMapper.toDetail(jane)).thenReturn(
+                EmployeeDetail.builder().id("1").fullName("Doe, Jane").designation("Says \"hi\"").isActive(true).build());
+
+        EmployeeExport export = sut.exportEmployees(request, "CSV");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.getBody().writeTo(out);
+
+        assertEquals(EmployeeExportFormat.CSV, export.getFormat());
+        assertEquals(
+                "id,email,fullName,phoneNumber,dob,isActive,designation,managerId,address,startedAt,updatedAt,version\r\n"
+                        + "1,,\"Doe, Jane\",,,true,\"Says \"\"hi\"\"\",,,,,\r\n",
+                out.toString(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    void exportEmployees_shouldRejectInvalidSearchBeforeReturningTheBody() {
+        QueryRequest request = new QueryRequest();
+        Query<EmployeeSortField> defaultQuery = Query.<EmployeeSortField>defaultQuery().get();
+        ValidationFailure failure = new ValidationFailure(List.of(
+                ErrorDetail.builder().field("search").code("ERR_INVALID_SEARCH").message("Unknown field").build()));
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(queryMapper.transform(eq(request), eq(exceptionMapper))).thenReturn(defaultQuery);
+        when(employeeRepository.validateStream(defaultQuery.search())).thenReturn(Option.some(failure));
+        when(exceptionMapper.mapAndThrow(failure)).thenThrow(mapped);
+
+        assertThatThrownBy(() -> sut.exportEmployees(request, "ndjson")).isSameAs(mapped);
+        verify(employeeRepository, never()).streamEmployees(any(), any(), any());
+    }
+
+    @Test
+    void exportEmployees_shouldEndWithErrorLineAndFail_whenReadFailsAfterRowsWereWritten() {
+        QueryRequest request = new QueryRequest();
+        Query<EmployeeSortField> defaultQuery = Query.<EmployeeSortField>defaultQuery().get();
+        Employee jane = Employee.builder().id("1").fullName("Jane").build();
+        SystemFailure failure = new SystemFailure(List.of(
+                ErrorDetail.builder().field("database").code("ERR_DB").message("connection reset").build()));
+        AppException mapped = AppException.of(ErrorResponse.builder().code(500).build());
+        when(queryMapper.transform(eq(request), eq(exceptionMapper))).thenReturn(defaultQuery);
+        when(employeeRepository.validateStream(defaultQuery.search())).thenReturn(Option.none());
+        when(employeeRepository.streamEmployees(eq(defaultQuery.search()), eq(defaultQuery.sorts()), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<Employee> sink = invocation.getArgument(2);
+                    sink.accept(jane);
+                    return Either.left(failure);
+                });
+        when(employeeDataMapper.toDetail(jane)).thenReturn(EmployeeDetail.builder().id("1").fullName("Jane").build());
+        when(exceptionMapper.mapAndThrow(failure)).thenThrow(mapped);
+
+        EmployeeExport export = sut.exportEmployees(request, "ndjson");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> export.getBody().writeTo(out)).isSameAs(mapped);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":\"1\""));
+        assertTrue(lines[1].startsWith("{\"error\":{\"code\":\"ERR_DB\""));
+    }
+
+    @Test
+    void exportEmployees_shouldRejectUnknownFormatBeforeReadingAnything() {
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        assertThatThrownBy(() -> sut.exportEmployees(new QueryRequest(), "xlsx")).isSameAs(mapped);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static String importRecord(String email) {
+        return "{\"email\":\"" + email + "\",\"fullName\":\"Jane Doe\",\"password\":\"secret123\","
+                + "\"phoneNumber\":\"1234567890\",\"designation\":\"Developer\"}";
+    }
+
+    @Test
+    void importEmployees_shouldCreateValidNdjsonRecordsAndReportRejectedLines() {
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any())).thenReturn(mapped);
+        when(employeeDataMapper.toEntity(any(EmployeeDetailInput.class)))
+                .thenAnswer(invocation -> Employee.builder()
+                        .email(invocation.<EmployeeDetailInput>getArgument(0).getEmail())
+                        .build());
+        when(employeeRepository.createEmployees(anyList())).thenAnswer(invocation -> Either.right(
+                invocation.<List<Employee>>getArgument(0).stream()
+                        .map(e -> e.getEmail().startsWith("taken")
+                                ? Either.<OperationFailure, Employee>left(new ValidationFailure(List.of()))
+                                : Either.<OperationFailure, Employee>right(e))
+                        .toList()
+        ));
+        String upload = importRecord("a@example.com") + "\n"
+                + "{\"email\":\"b@example.com\"}\n"
+                + "{\"email\":\"c@example.com\",\"unknown\":1}\n"
+                + importRecord("taken@example.com") + "\n";
+
+        EmployeeImportResult result = sut.importEmployees(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(4, result.getReceived());
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getFailed());
+        assertTrue(result.isComplete());
+        assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(EmployeeImportResult.Rejection::getLine).toList());
+        verify(employeeRepository, times(1)).createEmployees(anyList());
+    }
+
+    @Test
+    void importEmployees_shouldReadGzippedArrayAndKeepRecordsBeforeMalformedJson() throws Exception {
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any())).thenReturn(mapped);
+        when(employeeDataMapper.toEntity(any(EmployeeDetailInput.class))).thenReturn(Employee.builder().build());
+        when(employeeRepository.createEmployees(anyList())).thenAnswer(invocation -> Either.right(
+                invocation.<List<Employee>>getArgument(0).stream()
+                        .map(Either::<OperationFailure, Employee>right)
+                        .toList()
+        ));
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (var out = new GZIPOutputStream(gzipped)) {
+            out.write(("[" + importRecord("a@example.com") + ",\n" + importRecord("b@example.com") + ",\n{\"email\":")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        EmployeeImportResult result = sut.importEmployees(new ByteArrayInputStream(gzipped.toByteArray()));
+
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertFalse(result.isComplete());
+        assertEquals(3L, result.getErrors().getFirst().getLine());
+    }
+
     @Test
     void getAllEmployee_shouldReturnMappedList_whenEmployeesExist() {
 
@@ -462,6 +718,42 @@ class EmployeeManagementServiceTest {
         verify(exceptionMapper).mapAndThrow(failure);
     }
 
+    @Test
+    void updateEmployee_shouldPassIfMatchVersionToRepository() {
+        EmployeeDetailInput input = EmployeeDetailInput.builder().fullName("Jane Doe").build();
+        Employee entity = Employee.builder().id("123").fullName("Jane Doe").build();
+        Employee expected = entity.toBuilder().version(4L).build();
+        EmployeeDetail detail = EmployeeDetail.builder().id("123").version(5L).build();
+
+        when(employeeDataMapper.toEntity(input)).thenReturn(entity);
+        when(employeeRepository.updateEmployee("123", expected)).thenReturn(Either.right(expected));
+        when(employeeDataMapper.toDetail(expected)).thenReturn(detail);
+
+        EmployeeDetail result = sut.updateEmployee("123", input, "\"4\"");
+
+        assertEquals(5L, result.getVersion());
+        verify(employeeRepository).updateEmployee("123", expected);
+    }
+
+    @Test
+    void updateEmployee_shouldThrowValidationError_whenIfMatchIsNotAVersionTag() {
+        EmployeeDetailInput input = EmployeeDetailInput.builder().fullName("Jane Doe").build();
+        when(employeeDataMapper.toEntity(input)).thenReturn(Employee.builder().id("123").build());
+        AppException mapped = AppException.of(
+                ErrorResponse.builder()
+                        .message("Validation failure occurred.")
+                        .code(400)
+                        .errorCode(ErrorCode.BAD_REQUEST)
+                        .build()
+        );
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        assertThatThrownBy(() -> sut.updateEmployee("123", input, "W/\"4\""))
+                .isSameAs(mapped);
+
+        verifyNoInteractions(employeeRepository);
+    }
+
 
     @Test
     void deleteEmployee_shouldThrowMappedException_whenFailureReturned() {
@@ -515,4 +807,93 @@ class EmployeeManagementServiceTest {
     }
 
 
-}
\ No newline at end of file
+    @Test
+    void suggest_shouldMapSuggestions_whenFieldIsValid() {
+        when(suggestionIndex.suggest(EmployeeSuggestField.FULL_NAME, "ja", 10))
+                .thenReturn(Either.right(List.of(new Suggestion("1", "Jack Davis"))));
+
+        List<EmployeeSuggestion> result = sut.suggest("fullName", " ja ", 10);
+
+        assertEquals(1, result.size());
+        assertEquals("1", result.getFirst().getId());
+        assertEquals("Jack Davis", result.getFirst().getValue());
+    }
+
+    @Test
+    void suggest_shouldThrowValidationError_whenFieldIsNotSuggestable() {
+        AppException mapped = AppException.of(
+                ErrorResponse.builder()
+                        .message("Validation failure occurred.")
+                        .code(400)
+                        .errorCode(ErrorCode.BAD_REQUEST)
+                        .build()
+        );
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        assertThatThrownBy(() -> sut.suggest("designation", "dev", 10))
+                .isSameAs(mapped);
+
+        verifyNoInteractions(suggestionIndex);
+    }
+
+    @Test
+    void createEmployees_shouldReportInvalidAndFailedEmployeesPerIndex() {
+        EmployeeDetailInput valid = EmployeeDetailInput.builder()
+                .email("jane@example.com")
+                .fullName("Jane Doe")
+                .password("StrongPass#1")
+                .phoneNumber("+1-510-555-1006")
+                .designation("Developer")
+                .build();
+        EmployeeDetailInput duplicate = EmployeeDetailInput.builder()
+                .email("jane@example.com")
+                .fullName("Jane Twin")
+                .password("StrongPass#1")
+                .phoneNumber("+1-510-555-1006")
+                .designation("Developer")
+                .build();
+        EmployeeDetailInput invalid = EmployeeDetailInput.builder().fullName("No Email").build();
+
+        Employee first = Employee.builder().id("1").email("jane@example.com").build();
+        Employee second = Employee.builder().id("2").email("jane@example.com").build();
+        when(employeeDataMapper.toEntity(valid)).thenReturn(first);
+        when(employeeDataMapper.toEntity(duplicate)).thenReturn(second);
+        when(employeeDataMapper.toDetail(first)).thenReturn(EmployeeDetail.builder().id("1").build());
+
+        OperationFailure conflict = new ValidationFailure(List.of(ErrorDetail.builder().code("ERR_EMAIL_EXISTS").build()));
+        when(employeeRepository.createEmployees(List.of(first, second)))
+                .thenReturn(Either.right(List.of(Either.right(first), Either.left(conflict))));
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        EmployeeBatchResult result = sut.createEmployees(List.of(valid, invalid, duplicate));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals("1", result.getResults().get(0).getEmployee().getId());
+        assertEquals(400, result.getResults().get(1).getError().getCode());
+        assertEquals(2, result.getResults().get(2).getIndex());
+        assertEquals(mapped.getErrorDetail(), result.getResults().get(2).getError());
+    }
+
+    @Test
+    void createEmployees_shouldCheckManagerEmailOfBatchMembersOnly() {
+        EmployeeDetailInput input = EmployeeDetailInput.builder()
+                .email("jane@example.com")
+                .fullName("Jane Doe")
+                .password("StrongPass#1")
+                .phoneNumber("+1-510-555-1006")
+                .designation("Developer")
+                .managerEmail("not-an-email")
+                .build();
+        AppException mapped = AppException.of(ErrorResponse.builder().code(400).build());
+        when(exceptionMapper.map(any(ValidationFailure.class))).thenReturn(mapped);
+
+        EmployeeBatchResult result = sut.createEmployees(List.of(input));
+
+        assertEquals(1, result.getFailed());
+        verify(employeeRepository, never()).createEmployees(any());
+        // single create validates CreateGroup only, which leaves managerEmail alone
+        assertTrue(validator.validate(input, CreateGroup.class).isEmpty());
+    }
+}
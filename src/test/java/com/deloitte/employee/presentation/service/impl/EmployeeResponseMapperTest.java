@@ -0,0 +1,47 @@
+package com.deloitte.employee.presentation.service.impl;
+
+import com.deloitte.employee.presentation.dto.request.QueryRequest;
+import com.deloitte.employee.presentation.dto.response.EmployeeDetail;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeResponseMapperTest {
+
+    private final EmployeeResponseMapper sut = new EmployeeResponseMapper();
+
+    private static List<EmployeeDetail> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmployeeDetail.builder()
+                        .id(String.valueOf(i))
+                        .email(i + "@example.com")
+                        .fullName("Employee " + i)
+                        .startedAt("2024-01-01T09:00")
+                        .build())
+                .toList();
+    }
+
+    @Test
+    void toResponse_shouldTrimTheLookAheadRowAndOfferACursor() {
+        QueryRequest query = QueryRequest.builder().size(2).build();
+
+        var response = sut.toResponse(query, query.toBuilder().size(3).build(), employees(3));
+
+        assertThat(response.getData()).extracting(EmployeeDetail::getId).containsExactly("0", "1");
+        assertThat(response.getMeta().isHasNext()).isTrue();
+        assertThat(response.getMeta().getNextCursor()).isNotNull();
+    }
+
+    @Test
+    void toResponse_shouldNotOfferACursor_forTextSearch() {
+        QueryRequest query = QueryRequest.builder().size(2).q("employee").build();
+
+        var response = sut.toResponse(query, query.toBuilder().size(3).build(), employees(3));
+
+        assertThat(response.getMeta().isHasNext()).isTrue();
+        assertThat(response.getMeta().getNextCursor()).isNull();
+    }
+}